@@ -0,0 +1,20 @@
+package com.openrosary.app;
+
+import android.util.Log;
+
+import com.openrosary.core.RosaryLog;
+
+/**
+ * Routes the rosary core's log messages to logcat.
+ */
+final class AndroidLogSink implements RosaryLog.Sink {
+    static final AndroidLogSink INSTANCE = new AndroidLogSink();
+
+    private AndroidLogSink() {
+    }
+
+    @Override
+    public void log(int priority, String tag, String message) {
+        Log.println(priority, tag, message);
+    }
+}
@@ -0,0 +1,251 @@
+package com.openrosary.app;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The user's settings, held in memory for the whole process.
+ *
+ * The preferences file is read once, on a background thread started with
+ * the application, into an immutable Settings. Reads return the current
+ * Settings and never touch the disk or wait: until the load finishes they
+ * are the defaults, and listeners are told when the loaded values differ.
+ * A change replaces the Settings at once, tells the listeners, and is
+ * written back on the background thread; changes made while a write is
+ * waiting go out with it. Changes made before the load finishes win over
+ * the stored values.
+ */
+final class AppSettings {
+    private static final String TAG = "AppSettings";
+    private static final String PREFS_NAME = "SimpleRosaryPrefs";
+    private static final String THEME_KEY = "theme";
+    private static final String LANGUAGE_KEY = "language";
+    private static final String DEFAULT_LANGUAGE = "en";
+
+    /**
+     * One consistent set of values. Never modified; a change makes a new one.
+     */
+    static final class Settings {
+        private final boolean darkMode;
+        private final String languageCode;
+
+        Settings(boolean darkMode, String languageCode) {
+            this.darkMode = darkMode;
+            this.languageCode = languageCode;
+        }
+
+        /**
+         * @return True if the AMOLED dark theme is chosen
+         */
+        boolean isDarkMode() {
+            return darkMode;
+        }
+
+        /**
+         * @return The language code ("en" or "in")
+         */
+        String getLanguageCode() {
+            return languageCode;
+        }
+
+        /**
+         * @return True if both hold the same values
+         */
+        boolean sameAs(Settings other) {
+            return darkMode == other.darkMode && languageCode.equals(other.languageCode);
+        }
+    }
+
+    /**
+     * Told when the settings change, on the thread that changed them; the
+     * load reports on the settings thread.
+     */
+    interface Listener {
+        void onSettingsChanged(Settings settings);
+    }
+
+    private static AppSettings instance;
+
+    private final Context appContext;
+    private final Handler worker;
+    private final Runnable writeTask = this::write;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    // Guarded by lock; settings is also read without it
+    private final Object lock = new Object();
+    private volatile Settings settings = new Settings(false, DEFAULT_LANGUAGE);
+    private boolean loaded;
+    private boolean darkModeChanged;     // Set before the load finished
+    private boolean languageCodeChanged; // Set before the load finished
+    private boolean writePending;
+    private final List<Listener> loadListeners = new ArrayList<>();
+
+    private AppSettings(Context appContext) {
+        this.appContext = appContext;
+        HandlerThread thread = new HandlerThread(TAG);
+        thread.start();
+        worker = new Handler(thread.getLooper());
+        // First in the queue, so every write sees the loaded values
+        worker.post(this::load);
+    }
+
+    /**
+     * Gets the settings for this process, starting to load them the first time.
+     * Call from Application.onCreate so they are normally loaded before any activity asks.
+     * @param context Any context
+     * @return The settings
+     */
+    static synchronized AppSettings get(Context context) {
+        if (instance == null) {
+            instance = new AppSettings(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the current settings. Never waits for the disk.
+     * @return The current settings, or the defaults if they are still being loaded
+     */
+    Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Be told once the settings are loaded: right away on this thread if
+     * they already are, otherwise on the settings thread.
+     * @param listener Called once with the loaded settings
+     */
+    void whenLoaded(Listener listener) {
+        synchronized (lock) {
+            if (!loaded) {
+                loadListeners.add(listener);
+                return;
+            }
+        }
+        listener.onSettingsChanged(settings);
+    }
+
+    /**
+     * Choose the theme. The change is saved in the background.
+     * @param darkMode True for the AMOLED dark theme
+     */
+    void setDarkMode(boolean darkMode) {
+        Settings changed;
+        synchronized (lock) {
+            Settings current = settings;
+            if (current.darkMode == darkMode) {
+                return;
+            }
+            changed = new Settings(darkMode, current.languageCode);
+            darkModeChanged |= !loaded;
+            changeLocked(changed);
+        }
+        notifyListeners(changed);
+    }
+
+    /**
+     * Choose the language. The change is saved in the background.
+     * @param languageCode The language code ("en" or "in")
+     */
+    void setLanguageCode(String languageCode) {
+        Settings changed;
+        synchronized (lock) {
+            Settings current = settings;
+            if (languageCode == null || languageCode.equals(current.languageCode)) {
+                return;
+            }
+            changed = new Settings(current.darkMode, languageCode);
+            languageCodeChanged |= !loaded;
+            changeLocked(changed);
+        }
+        notifyListeners(changed);
+    }
+
+    /**
+     * Be told when the settings change.
+     * @param listener The listener
+     */
+    void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stop being told when the settings change.
+     * @param listener The listener
+     */
+    void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    private void changeLocked(Settings changed) {
+        settings = changed;
+        if (!writePending) {
+            writePending = true;
+            worker.post(writeTask);
+        }
+    }
+
+    private void notifyListeners(Settings changed) {
+        for (Listener listener : listeners) {
+            listener.onSettingsChanged(changed);
+        }
+    }
+
+    private void load() {
+        boolean storedDarkMode = false;
+        String storedLanguageCode = DEFAULT_LANGUAGE;
+        try {
+            SharedPreferences preferences = appContext.getSharedPreferences(PREFS_NAME, 0);
+            storedDarkMode = preferences.getBoolean(THEME_KEY, false);
+            storedLanguageCode = preferences.getString(LANGUAGE_KEY, DEFAULT_LANGUAGE);
+        } catch (Exception e) {
+            Log.e(TAG, "Error loading settings: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+        Settings before;
+        Settings merged;
+        List<Listener> waiting;
+        synchronized (lock) {
+            before = settings;
+            // What the user chose while loading stays; the rest comes from disk
+            merged = new Settings(darkModeChanged ? before.darkMode : storedDarkMode,
+                    languageCodeChanged || storedLanguageCode == null ? before.languageCode : storedLanguageCode);
+            settings = merged;
+            loaded = true;
+            waiting = new ArrayList<>(loadListeners);
+            loadListeners.clear();
+        }
+        if (!merged.sameAs(before)) {
+            notifyListeners(merged);
+        }
+        for (Listener listener : waiting) {
+            listener.onSettingsChanged(merged);
+        }
+    }
+
+    private void write() {
+        Settings current;
+        synchronized (lock) {
+            writePending = false;
+            // The latest settings, including any changed after this write was asked for
+            current = settings;
+        }
+        try {
+            boolean saved = appContext.getSharedPreferences(PREFS_NAME, 0).edit()
+                    .putBoolean(THEME_KEY, current.darkMode)
+                    .putString(LANGUAGE_KEY, current.languageCode)
+                    .commit();
+            if (!saved) {
+                Log.e(TAG, "Failed to save settings");
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Error saving settings: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+    }
+}
@@ -1,19 +1,15 @@
 package com.openrosary.app;
 
 import android.content.Context; // Added
-import android.content.ContextWrapper; // Added
-import android.content.SharedPreferences;
-import android.content.res.Configuration;
-import android.content.res.Resources;
-import android.os.Build; // Added
 import android.os.Bundle;
-import android.os.LocaleList; // Added
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.app.AppCompatDelegate;
 
-import java.util.Locale;
+import java.lang.ref.WeakReference;
 
 /**
  * BaseActivity that handles common functionality for all activities,
@@ -22,41 +18,45 @@ import java.util.Locale;
 public abstract class BaseActivity extends AppCompatActivity {
 
     private static final String TAG = "BaseActivity";
-    protected static final String PREFS_NAME = "SimpleRosaryPrefs";
-    protected static final String THEME_KEY = "theme";
-    protected static final String LANGUAGE_KEY = "language";
     // Removed initialSetupComplete as it's less relevant with attachBaseContext approach
+    private String attachedLanguageCode; // The language this activity was built with
 
-    // Helper method to update context configuration based on saved language
-    private static ContextWrapper updateBaseContextLocale(Context context) {
-        SharedPreferences settings = context.getSharedPreferences(PREFS_NAME, 0);
-        // Read preference ("en" or "in"), default to "en"
-        String languageCode = settings.getString(LANGUAGE_KEY, "en"); 
-        Log.d(TAG, "updateBaseContextLocale: Reading language preference - Found: " + languageCode);
-        // Create Locale using the code ("en" or "in")
-        Locale locale = new Locale(languageCode); 
-        Locale.setDefault(locale);
-
-        Configuration config = new Configuration(context.getResources().getConfiguration());
-        
-        // Apply locale based on Android version
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            LocaleList localeList = new LocaleList(locale);
-            LocaleList.setDefault(localeList);
-            config.setLocales(localeList);
-        } else {
-            config.setLocale(locale);
+    /**
+     * Rebuilds the activity if it was built from default settings because the
+     * stored ones were still loading, and they turned out different.
+     * Holds the activity weakly so the process-wide settings never keep it alive.
+     */
+    private static final class SettingsLoadedCallback implements AppSettings.Listener {
+        private final WeakReference<BaseActivity> activityRef;
+        private final boolean darkMode;
+        private final String languageCode;
+
+        SettingsLoadedCallback(BaseActivity activity, boolean darkMode, String languageCode) {
+            activityRef = new WeakReference<>(activity);
+            this.darkMode = darkMode;
+            this.languageCode = languageCode;
         }
 
-        context = context.createConfigurationContext(config);
-        Log.d(TAG, "updateBaseContextLocale: Context updated with locale: " + languageCode);
-        return new ContextWrapper(context);
+        @Override
+        public void onSettingsChanged(AppSettings.Settings loaded) {
+            if (loaded.isDarkMode() == darkMode && loaded.getLanguageCode().equals(languageCode)) {
+                return;
+            }
+            new Handler(Looper.getMainLooper()).post(() -> {
+                BaseActivity activity = activityRef.get();
+                if (activity != null && !activity.isFinishing() && !activity.isDestroyed()) {
+                    Log.d(TAG, "Settings loaded after the activity was built; recreating");
+                    activity.recreate();
+                }
+            });
+        }
     }
 
     @Override
     protected void attachBaseContext(Context newBase) {
-        // Update the context wrapper with the saved language before attaching it
-        super.attachBaseContext(updateBaseContextLocale(newBase));
+        // Attach with the shared app locale, built once per language change
+        super.attachBaseContext(LocaleManager.wrap(newBase));
+        attachedLanguageCode = LocaleManager.getLanguageCode(newBase);
     }
 
 
@@ -80,23 +80,19 @@ public abstract class BaseActivity extends AppCompatActivity {
      */
     protected void applyTheme() {
         try {
-            SharedPreferences settings = getSharedPreferences(PREFS_NAME, 0);
-            if (settings != null) {
-                boolean isDarkMode = settings.getBoolean(THEME_KEY, false);
-
-                // Apply theme BEFORE super.onCreate()
-                if (isDarkMode) {
-                    setTheme(R.style.AppTheme_Amoled); 
-                    AppCompatDelegate.setDefaultNightMode(AppCompatDelegate.MODE_NIGHT_YES);
-                } else {
-                    setTheme(R.style.AppTheme); 
-                    AppCompatDelegate.setDefaultNightMode(AppCompatDelegate.MODE_NIGHT_NO);
-                }
+            // Settings are in memory; on a cold start they may still be the defaults
+            AppSettings appSettings = AppSettings.get(this);
+            AppSettings.Settings settings = appSettings.getSettings();
+            if (settings.isDarkMode()) {
+                setTheme(R.style.AppTheme_Amoled); 
+                AppCompatDelegate.setDefaultNightMode(AppCompatDelegate.MODE_NIGHT_YES);
             } else {
-                 // Fallback if settings are null
-                 setTheme(R.style.AppTheme); 
-                 AppCompatDelegate.setDefaultNightMode(AppCompatDelegate.MODE_NIGHT_NO);
+                setTheme(R.style.AppTheme); 
+                AppCompatDelegate.setDefaultNightMode(AppCompatDelegate.MODE_NIGHT_NO);
             }
+            // Rather than wait for the disk, rebuild once the stored settings are in if they differ
+            appSettings.whenLoaded(new SettingsLoadedCallback(this, settings.isDarkMode(),
+                    attachedLanguageCode != null ? attachedLanguageCode : settings.getLanguageCode()));
         } catch (Exception e) {
             Log.e(TAG, "Error applying theme: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
             // Default to standard theme if there's an error
@@ -114,19 +110,11 @@ public abstract class BaseActivity extends AppCompatActivity {
      */
     protected void setAppLocale(String languageCode) { // Expecting "en" or "in"
         try {
-            SharedPreferences settings = getSharedPreferences(PREFS_NAME, 0);
-            String currentLang = settings.getString(LANGUAGE_KEY, "en");
-
-            if (!currentLang.equals(languageCode)) {
-                SharedPreferences.Editor editor = settings.edit();
-                editor.putString(LANGUAGE_KEY, languageCode); // Save "en" or "in"
-                // Use commit() for synchronous saving during this critical operation
-                boolean saved = editor.commit(); 
-                if (saved) {
-                    Log.d(TAG, "Language preference saved successfully: " + languageCode);
-                } else {
-                    Log.e(TAG, "Failed to save language preference: " + languageCode);
-                }
+            AppSettings settings = AppSettings.get(this);
+            if (!settings.getSettings().getLanguageCode().equals(languageCode)) {
+                // Takes effect at once, LocaleManager included; saved in the background
+                settings.setLanguageCode(languageCode);
+                Log.d(TAG, "Language preference changed to: " + languageCode);
             } else {
                  Log.d(TAG, "Language preference (" + languageCode + ") already saved.");
             }
@@ -1,7 +1,6 @@
 package com.openrosary.app;
 
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.os.Bundle;
 import android.util.Log;
 import android.view.View;
@@ -11,6 +10,8 @@ import android.widget.LinearLayout;
 import android.widget.ScrollView;
 import android.widget.TextView;
 
+import com.openrosary.core.MysteryType;
+
 public class ChoicesActivity extends BaseActivity {
 
     private static final String TAG = "ChoicesActivity";
@@ -25,11 +26,8 @@ public class ChoicesActivity extends BaseActivity {
             super.onCreate(savedInstanceState);
             setContentView(R.layout.activity_choices);
             
-            // Get the isDarkMode value from preferences to use for UI elements
-            SharedPreferences settings = getSharedPreferences(PREFS_NAME, 0);
-            if (settings != null) {
-                isDarkMode = settings.getBoolean(THEME_KEY, false);
-            }
+            // Get the isDarkMode value from the settings to use for UI elements
+            isDarkMode = AppSettings.get(this).getSettings().isDarkMode();
               // Update title text color based on theme
             TextView titleTextView = findViewById(R.id.titleTextView);
             if (titleTextView != null) {
@@ -55,38 +53,38 @@ public class ChoicesActivity extends BaseActivity {
       private void setupMysteryCards() {
         try {
             // Get the suggested mystery for today
-            String suggestedMystery = RosaryPrayers.getSuggestedMysteryForToday();
+            MysteryType suggestedMystery = RosaryPrayers.getSuggestedMysteryForToday();
             String recommendationText = getString(R.string.recommended_for_today);
               // Setup Joyful Mysteries card
             LinearLayout joyfulCard = findViewById(R.id.joyfulMysteriesCard);
             TextView joyfulRecommendationPill = findViewById(R.id.joyfulRecommendationPill);
-            setupMysteryCard(joyfulCard, "joyful", suggestedMystery, joyfulRecommendationPill, recommendationText);
+            setupMysteryCard(joyfulCard, MysteryType.JOYFUL, suggestedMystery, joyfulRecommendationPill, recommendationText);
             
             // Setup Sorrowful Mysteries card
             LinearLayout sorrowfulCard = findViewById(R.id.sorrowfulMysteriesCard);
             TextView sorrowfulRecommendationPill = findViewById(R.id.sorrowfulRecommendationPill);
-            setupMysteryCard(sorrowfulCard, "sorrowful", suggestedMystery, sorrowfulRecommendationPill, recommendationText);
+            setupMysteryCard(sorrowfulCard, MysteryType.SORROWFUL, suggestedMystery, sorrowfulRecommendationPill, recommendationText);
             
             // Setup Glorious Mysteries card
             LinearLayout gloriousCard = findViewById(R.id.gloriousMysteriesCard);
             TextView gloriousRecommendationPill = findViewById(R.id.gloriousRecommendationPill);
-            setupMysteryCard(gloriousCard, "glorious", suggestedMystery, gloriousRecommendationPill, recommendationText);
+            setupMysteryCard(gloriousCard, MysteryType.GLORIOUS, suggestedMystery, gloriousRecommendationPill, recommendationText);
               // Setup Luminous Mysteries card
             LinearLayout luminousCard = findViewById(R.id.luminousMysteriesCard);
             TextView luminousRecommendationPill = findViewById(R.id.luminousRecommendationPill);
-            setupMysteryCard(luminousCard, "luminous", suggestedMystery, luminousRecommendationPill, recommendationText);
+            setupMysteryCard(luminousCard, MysteryType.LUMINOUS, suggestedMystery, luminousRecommendationPill, recommendationText);
             
         } catch (Exception e) {
             Log.e(TAG, "Error setting up mystery cards: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
         }}
-      private void setupMysteryCard(LinearLayout card, String mysteryType, String suggestedMystery,
+      private void setupMysteryCard(LinearLayout card, MysteryType mysteryType, MysteryType suggestedMystery,
                                  TextView recommendationPill, String recommendationText) {
         if (card != null) {
             // Set click listener for the card
             card.setOnClickListener(v -> launchMainActivity(mysteryType));
             
             // Show recommendation pill if this mystery is suggested for today
-            if (recommendationPill != null && mysteryType.equals(suggestedMystery)) {
+            if (recommendationPill != null && mysteryType == suggestedMystery) {
                 recommendationPill.setText(recommendationText);
                 recommendationPill.setVisibility(View.VISIBLE);
             } else if (recommendationPill != null) {
@@ -117,10 +115,12 @@ public class ChoicesActivity extends BaseActivity {
         try {
             // Fixed bottom buttons
             Button fixedOptionsButton = findViewById(R.id.fixedOptionsButton);
+            Button fixedStatsButton = findViewById(R.id.fixedStatsButton);
             Button fixedInfoButton = findViewById(R.id.fixedInfoButton);
             
             // Scrollable bottom buttons
             Button scrollableOptionsButton = findViewById(R.id.scrollableOptionsButton);
+            Button scrollableStatsButton = findViewById(R.id.scrollableStatsButton);
             Button scrollableInfoButton = findViewById(R.id.scrollableInfoButton);
             
             // Options button click listener
@@ -131,6 +131,12 @@ public class ChoicesActivity extends BaseActivity {
                 finish();
             };
             
+            // Statistics button click listener
+            View.OnClickListener statsClickListener = v -> {
+                Intent intent = new Intent(ChoicesActivity.this, StatsActivity.class);
+                startActivity(intent);
+            };
+            
             // Info button click listener
             View.OnClickListener infoClickListener = v -> {
                 Intent intent = new Intent(ChoicesActivity.this, InfoActivity.class);
@@ -139,8 +145,10 @@ public class ChoicesActivity extends BaseActivity {
             
             // Apply listeners to both sets of buttons
             if (fixedOptionsButton != null) fixedOptionsButton.setOnClickListener(optionsClickListener);
+            if (fixedStatsButton != null) fixedStatsButton.setOnClickListener(statsClickListener);
             if (fixedInfoButton != null) fixedInfoButton.setOnClickListener(infoClickListener);
             if (scrollableOptionsButton != null) scrollableOptionsButton.setOnClickListener(optionsClickListener);
+            if (scrollableStatsButton != null) scrollableStatsButton.setOnClickListener(statsClickListener);
             if (scrollableInfoButton != null) scrollableInfoButton.setOnClickListener(infoClickListener);
             
         } catch (Exception e) {
@@ -148,10 +156,10 @@ public class ChoicesActivity extends BaseActivity {
         }
     }
     
-    private void launchMainActivity(String mysteryType) {
+    private void launchMainActivity(MysteryType mysteryType) {
         try {
             Intent intent = new Intent(ChoicesActivity.this, MainActivity.class);
-            intent.putExtra("mysteryType", mysteryType);
+            intent.putExtra(MainActivity.EXTRA_MYSTERY_TYPE, mysteryType.key());
             startActivity(intent);
         } catch (Exception e) {
             Log.e(TAG, "Error launching MainActivity: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
@@ -0,0 +1,133 @@
+package com.openrosary.app;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.VibrationEffect;
+import android.os.Vibrator;
+import android.util.Log;
+
+/**
+ * Plays the haptic feedback for moving between beads.
+ *
+ * Every effect is built once up front, and playback runs on a dedicated
+ * background thread so vibrating never blocks input on the UI thread.
+ * Only the latest bead counts: a new request drops any effect still waiting
+ * to play, and starting an effect cuts off the one already playing, so fast
+ * praying never queues up vibrations.
+ */
+public final class HapticsEngine {
+    private static final String TAG = "HapticsEngine";
+
+    // Transition kinds
+    public static final int FORWARD = 0;     // Next bead of the same kind
+    public static final int BEAD_CHANGE = 1; // Next bead is a different kind
+    public static final int BACKWARD = 2;    // Going back one bead
+    public static final int DECADE_END = 3;  // Leaving the last prayer of a decade
+    public static final int COMPLETION = 4;  // The final prayer of the rosary
+
+    // Timings of each pattern, alternating wait and vibrate (ms), indexed by transition kind
+    private static final long[][] TIMINGS = {
+        {0, 50},                         // Forward: single tap
+        {0, 50, 100, 50, 100, 50},       // Bead change: triple tap
+        {0, 50, 100, 50},                // Backward: double tap
+        {0, 150},                        // Decade end: one long pulse
+        {0, 100, 100, 100, 100, 300}     // Completion: two taps and a long pulse
+    };
+
+    // Strength of each vibration when the device supports amplitude control (1-255, 0 while waiting)
+    private static final int[][] AMPLITUDES = {
+        {0, 120},
+        {0, 255, 0, 255, 0, 255},
+        {0, 180, 0, 180},
+        {0, 255},
+        {0, 200, 0, 200, 0, 255}
+    };
+
+    private final Vibrator vibrator;
+    private final HandlerThread thread;
+    private final Handler handler;
+    private final Playback[] playbacks; // One prebuilt playback per transition kind
+
+    /**
+     * Plays one prebuilt effect. Runs on the haptics thread.
+     */
+    private static class Playback implements Runnable {
+        private final Vibrator vibrator;
+        private final VibrationEffect effect;
+
+        Playback(Vibrator vibrator, VibrationEffect effect) {
+            this.vibrator = vibrator;
+            this.effect = effect;
+        }
+
+        @Override
+        public void run() {
+            try {
+                // Replaces whatever is still playing
+                vibrator.vibrate(effect);
+            } catch (Exception e) {
+                Log.e(TAG, "Error playing haptic feedback: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+            }
+        }
+    }
+
+    /**
+     * Build the effects and start the haptics thread.
+     * Does nothing on devices without a vibrator.
+     * @param context Any context of this app
+     */
+    public HapticsEngine(Context context) {
+        Vibrator deviceVibrator = (Vibrator) context.getApplicationContext().getSystemService(Context.VIBRATOR_SERVICE);
+        if (deviceVibrator == null || !deviceVibrator.hasVibrator()) {
+            vibrator = null;
+            thread = null;
+            handler = null;
+            playbacks = null;
+            return;
+        }
+
+        vibrator = deviceVibrator;
+        boolean amplitudeControl = vibrator.hasAmplitudeControl();
+        playbacks = new Playback[TIMINGS.length];
+        for (int kind = 0; kind < TIMINGS.length; kind++) {
+            VibrationEffect effect = amplitudeControl
+                    ? VibrationEffect.createWaveform(TIMINGS[kind], AMPLITUDES[kind], -1) // -1 means don't repeat the pattern
+                    : VibrationEffect.createWaveform(TIMINGS[kind], -1);
+            playbacks[kind] = new Playback(vibrator, effect);
+        }
+
+        thread = new HandlerThread(TAG);
+        thread.start();
+        handler = new Handler(thread.getLooper());
+    }
+
+    /**
+     * Play the feedback for a transition, dropping any that has not started yet.
+     * Safe to call from the UI thread; returns without waiting for the vibrator.
+     * @param kind One of the transition kind constants
+     */
+    public void play(int kind) {
+        if (handler == null || kind < 0 || kind >= playbacks.length) {
+            return;
+        }
+        handler.removeCallbacksAndMessages(null);
+        handler.post(playbacks[kind]);
+    }
+
+    /**
+     * Stop any feedback and the haptics thread. The engine plays nothing afterwards.
+     */
+    public void release() {
+        if (handler == null) {
+            return;
+        }
+        handler.removeCallbacksAndMessages(null);
+        thread.quitSafely();
+        try {
+            vibrator.cancel();
+        } catch (Exception e) {
+            Log.e(TAG, "Error cancelling haptic feedback: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.openrosary.app;
 
-import android.content.SharedPreferences;
 import android.os.Bundle;
 import android.util.Log;
 import android.widget.Button;
@@ -17,11 +16,8 @@ public class InfoActivity extends BaseActivity {
             super.onCreate(savedInstanceState);
             setContentView(R.layout.activity_info);
             
-            // Get the isDarkMode value from preferences to use for UI elements
-            SharedPreferences settings = getSharedPreferences(PREFS_NAME, 0);
-            if (settings != null) {
-                isDarkMode = settings.getBoolean(THEME_KEY, false);
-            }
+            // Get the isDarkMode value from the settings to use for UI elements
+            isDarkMode = AppSettings.get(this).getSettings().isDarkMode();
             
             // Update text colors based on theme
             updateTextColors();
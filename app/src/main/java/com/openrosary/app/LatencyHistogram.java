@@ -0,0 +1,90 @@
+package com.openrosary.app;
+
+/**
+ * Fixed-size latency histogram with log-linear buckets.
+ *
+ * Values below 32 get a bucket each; above that every power of two is split
+ * into 16 equal buckets, so any recorded value is known to within about 6%
+ * while the whole range fits in a couple of hundred counters. Recording is
+ * an index computation and an increment, and never allocates.
+ * Not thread safe.
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;      // Values below this are exact
+    private static final int SUB_BUCKET_HALF_BITS = SUB_BUCKET_BITS - 1;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_BITS;
+
+    private final long highestValue;
+    private final long[] counts;
+    private long totalCount;
+    private long maxValue;
+
+    /**
+     * @param highestValue Larger values are recorded as this value
+     */
+    LatencyHistogram(long highestValue) {
+        this.highestValue = Math.max(SUB_BUCKET_COUNT, highestValue);
+        this.counts = new long[bucketIndex(this.highestValue) + 1];
+    }
+
+    /**
+     * Record one value. Negative values count as zero.
+     * @param value The value to record
+     */
+    void record(long value) {
+        long clamped = Math.max(0, Math.min(highestValue, value));
+        counts[bucketIndex(clamped)]++;
+        totalCount++;
+        if (clamped > maxValue) {
+            maxValue = clamped;
+        }
+    }
+
+    long getTotalCount() {
+        return totalCount;
+    }
+
+    long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Get the value at a percentile, reported as the top of its bucket
+     * so it never understates the latency.
+     * @param percentile Between 0 and 100
+     * @return The value, or 0 when nothing is recorded
+     */
+    long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, percentile) / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(maxValue, highestInBucket(i));
+            }
+        }
+        return maxValue;
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // Keep the top SUB_BUCKET_BITS bits of the value; the shift picks the power of two
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_HALF_BITS;
+        return (shift << SUB_BUCKET_HALF_BITS) + (int) (value >>> shift);
+    }
+
+    private static long highestInBucket(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_HALF_BITS) - 1;
+        long lowest = (long) ((index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
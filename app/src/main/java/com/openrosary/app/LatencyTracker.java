@@ -0,0 +1,165 @@
+package com.openrosary.app;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.ViewTreeObserver;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Measures how long a navigation input takes to reach the screen.
+ *
+ * Each applied step is stamped with the event time of the key press or
+ * swipe that caused it. When the next frame is drawn, the time since each
+ * pending stamp is recorded in a histogram for the kind of step, so p50 and
+ * p99 can be read per transition. Times are in milliseconds on the uptime
+ * clock the input events use. Main thread only; dumps are written to disk
+ * on the tracker's own thread.
+ */
+final class LatencyTracker implements ViewTreeObserver.OnDrawListener {
+    private static final String TAG = "LatencyTracker";
+
+    // Step kinds
+    static final int FORWARD = 0;
+    static final int BACK = 1;
+    static final int DECADE_BOUNDARY = 2;
+    static final int COMPLETION = 3;
+
+    private static final String[] KIND_NAMES = {
+        "forward",
+        "back",
+        "decade boundary",
+        "completion"
+    };
+
+    private static final long HIGHEST_LATENCY_MS = 60000;
+    private static final int MAX_PENDING = 64; // Steps waiting for a frame; more than this in one frame are not measured
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[KIND_NAMES.length];
+    private final int[] pendingKinds = new int[MAX_PENDING];
+    private final long[] pendingEventTimes = new long[MAX_PENDING];
+    private int pendingCount;
+    private Runnable onRecorded; // Posted after a frame records latencies, e.g. to refresh an overlay
+    private final HandlerThread thread;
+    private final Handler writer;
+
+    LatencyTracker() {
+        for (int kind = 0; kind < histograms.length; kind++) {
+            histograms[kind] = new LatencyHistogram(HIGHEST_LATENCY_MS);
+        }
+        thread = new HandlerThread(TAG);
+        thread.start();
+        writer = new Handler(thread.getLooper());
+    }
+
+    /**
+     * Set what runs after each frame that recorded latencies. The tracker
+     * outlives activities, so clear this when the activity goes away.
+     * @param onRecorded Must not touch the view being drawn directly, or null
+     */
+    void setOnRecorded(Runnable onRecorded) {
+        this.onRecorded = onRecorded;
+    }
+
+    /**
+     * Stamp a step that changed what is on screen.
+     * @param kind One of the step kind constants
+     * @param eventTime Uptime of the input event that caused the step, in milliseconds
+     */
+    void onStepApplied(int kind, long eventTime) {
+        if (pendingCount < MAX_PENDING) {
+            pendingKinds[pendingCount] = kind;
+            pendingEventTimes[pendingCount] = eventTime;
+            pendingCount++;
+        }
+    }
+
+    @Override
+    public void onDraw() {
+        if (pendingCount == 0) {
+            return;
+        }
+        long now = SystemClock.uptimeMillis();
+        for (int i = 0; i < pendingCount; i++) {
+            histograms[pendingKinds[i]].record(now - pendingEventTimes[i]);
+        }
+        pendingCount = 0;
+        if (onRecorded != null) {
+            onRecorded.run();
+        }
+    }
+
+    /**
+     * Get a short summary per step kind, one line each, for an on-screen overlay.
+     * @return The summary text
+     */
+    String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (int kind = 0; kind < histograms.length; kind++) {
+            LatencyHistogram histogram = histograms[kind];
+            if (summary.length() > 0) {
+                summary.append('\n');
+            }
+            summary.append(String.format(Locale.ROOT, "%-15s n=%-5d p50=%3dms p99=%3dms max=%3dms",
+                    KIND_NAMES[kind], histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99),
+                    histogram.getMaxValue()));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Print the percentiles of every step kind.
+     * @param prefix Indentation for each line
+     * @param writer Where to print
+     */
+    void dump(String prefix, PrintWriter writer) {
+        writer.print(prefix);
+        writer.println("Input-to-draw latency (ms):");
+        for (int kind = 0; kind < histograms.length; kind++) {
+            LatencyHistogram histogram = histograms[kind];
+            writer.print(prefix);
+            writer.println(String.format(Locale.ROOT,
+                    "  %s: count=%d p50=%d p90=%d p99=%d p99.9=%d max=%d",
+                    KIND_NAMES[kind], histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue()));
+        }
+    }
+
+    /**
+     * Write the dump to a file, replacing any earlier one. The numbers are
+     * taken now; the file is written in the background.
+     * @param file The file to write
+     */
+    void writeTo(File file) {
+        StringWriter text = new StringWriter();
+        try (PrintWriter snapshot = new PrintWriter(text)) {
+            dump("", snapshot);
+        }
+        String dump = text.toString();
+        writer.post(() -> {
+            try (OutputStreamWriter out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+                out.write(dump);
+            } catch (Exception e) {
+                Log.e(TAG, "Error writing latency histogram: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+            }
+        });
+    }
+
+    /**
+     * Stop the writer thread once any dump already asked for is written.
+     */
+    void release() {
+        thread.quitSafely();
+    }
+}
@@ -0,0 +1,127 @@
+package com.openrosary.app;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.os.Build;
+import android.os.LocaleList;
+import android.util.Log;
+
+import java.util.Locale;
+
+/**
+ * App-scoped owner of the user's language.
+ *
+ * The language comes from AppSettings, which tells this class when it
+ * changes or finishes loading; the locale override and the locale-configured application context
+ * are built once per language change.
+ * Activities and the prayer repositories all share them instead of each
+ * creating their own configuration context.
+ */
+public final class LocaleManager {
+    private static final String TAG = "LocaleManager";
+
+    // All fields are guarded by the class lock
+    private static String languageCode;          // null until the settings are first read
+    private static Configuration localeOverride; // Locale-only override for languageCode
+    private static Context localeContext;        // Locale-configured application context, built lazily
+
+    private LocaleManager() {
+    }
+
+    /**
+     * Gets the language the app is displayed in.
+     * @param context Any context of this app
+     * @return The language code ("en" or "in")
+     */
+    public static synchronized String getLanguageCode(Context context) {
+        ensureLanguage(context);
+        return languageCode;
+    }
+
+    /**
+     * Switch the app to another language. Called when the language setting
+     * changes; activities pick the new language up when they are recreated.
+     * @param languageCode The new language code ("en" or "in")
+     */
+    public static synchronized void setLanguageCode(String languageCode) {
+        if (languageCode == null || languageCode.equals(LocaleManager.languageCode)) {
+            return;
+        }
+        applyLanguage(languageCode);
+    }
+
+    /**
+     * Wrap an activity's base context so it uses the app language.
+     * Only the locale is overridden; everything else still comes from the base.
+     * @param base The base context passed to attachBaseContext
+     * @return A locale-configured context for the activity
+     */
+    public static Context wrap(Context base) {
+        Configuration override;
+        synchronized (LocaleManager.class) {
+            ensureLanguage(base);
+            override = localeOverride;
+        }
+        return base.createConfigurationContext(override);
+    }
+
+    /**
+     * Gets the shared locale-configured application context.
+     * @param context Any context of this app
+     * @return The same instance until the language changes
+     */
+    public static synchronized Context getLocaleContext(Context context) {
+        ensureLanguage(context);
+        if (localeContext == null) {
+            Context appContext = context.getApplicationContext();
+            try {
+                localeContext = appContext.createConfigurationContext(localeOverride);
+            } catch (Exception e) {
+                Log.e(TAG, "Error configuring locale-aware context: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+                // Fallback to using the application context
+                localeContext = appContext;
+            }
+        }
+        return localeContext;
+    }
+
+    /**
+     * Gets the shared resources for the app language.
+     * @param context Any context of this app
+     * @return Locale-configured resources
+     */
+    public static Resources getResources(Context context) {
+        return getLocaleContext(context).getResources();
+    }
+
+    private static void ensureLanguage(Context context) {
+        if (languageCode == null) {
+            AppSettings settings = AppSettings.get(context);
+            // Changes and the initial load can be reported from different threads; follow the latest
+            settings.addListener(changed -> setLanguageCode(settings.getSettings().getLanguageCode()));
+            applyLanguage(settings.getSettings().getLanguageCode());
+        }
+    }
+
+    private static void applyLanguage(String newLanguageCode) {
+        // Create Locale using the code ("en" or "in")
+        Locale locale = new Locale(newLanguageCode);
+        Locale.setDefault(locale);
+
+        Configuration override = new Configuration();
+        // Apply locale based on Android version
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            LocaleList localeList = new LocaleList(locale);
+            LocaleList.setDefault(localeList);
+            override.setLocales(localeList);
+        } else {
+            override.setLocale(locale);
+        }
+
+        languageCode = newLanguageCode;
+        localeOverride = override;
+        localeContext = null;
+        Log.d(TAG, "App language set to: " + newLanguageCode);
+    }
+}
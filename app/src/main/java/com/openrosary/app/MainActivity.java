@@ -3,64 +3,70 @@ package com.openrosary.app;
 // import android.app.AlertDialog; // Removing this import as we're using the androidx version
 import android.content.DialogInterface;
 import android.content.Intent;
-import android.content.SharedPreferences;
-import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.os.Bundle;
-import android.os.Vibrator;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
-import android.view.GestureDetector;
 import android.view.KeyEvent;
 import android.view.MotionEvent;
 import android.view.View;
-import android.widget.ProgressBar;
-import android.widget.ScrollView;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.appcompat.app.AlertDialog;
-import androidx.core.view.GestureDetectorCompat;
-import androidx.constraintlayout.widget.ConstraintLayout;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.viewpager2.widget.ViewPager2;
 
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerStructure;
+import com.openrosary.core.RosaryLog;
+import com.openrosary.core.RosaryState;
+
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.PrintWriter;
 import java.lang.ref.WeakReference;
 import java.util.Locale;
 
-public class MainActivity extends BaseActivity implements GestureDetector.OnGestureListener {
+public class MainActivity extends BaseActivity {
 
     private static final String TAG = "MainActivity";
-    // These are now defined in BaseActivity
-    // private static final String PREFS_NAME = "SimpleRosaryPrefs";
-    // private static final String THEME_KEY = "theme";
-    // private static final String LANGUAGE_KEY = "language";
     
-    // Constants for swipe detection
-    private static final int SWIPE_THRESHOLD = 100;
-    private static final int SWIPE_VELOCITY_THRESHOLD = 100;
-
     // UI Elements
     private TextView prayerLabelTextView;
-    private TextView prayerTextView;
     private TextView mysteryTitleTextView;
     private TextView instructionsTextView;
-    private ScrollView prayerTextScrollView;
-    private ProgressBar rosaryProgressBar;
+    private ViewPager2 prayerPager;
+    private RosaryBeadsView rosaryBeadsView;
     private TextView progressTextView;
     
-    // System services
-    private Vibrator vibrator;
-    // Make the gesture detector public so it can be accessed without synthetic accessors
-    public GestureDetectorCompat gestureDetector;
+    // Haptic feedback, played off the UI thread
+    private HapticsEngine haptics;
+    // Pending navigation steps, drained once per frame
+    private NavigationQueue navigationQueue;
+    private boolean prayerChanged = false;       // A drained step moved the cursor
+    private boolean completionRequested = false; // A drained step tried to advance past the end
+    // Input-to-draw latency, measured in debuggable builds only
+    private LatencyTracker latencyTracker;
+    private TextView latencyOverlayTextView;
+    private PrayerTimingRecorder timingRecorder; // Time spent on each prayer, noted per step
+    private Runnable latencyOverlayAction; // Guarded LatencyOverlayRunnable, built once per activity
     
     // Variables to track volume button states
     private boolean volumeUpPressed = false;
     private boolean volumeDownPressed = false;
     
-    // Rosary state variables
+    // Rosary state variables, borrowed from the retained session
+    private RosarySession session;
     private RosaryState rosaryState;
-    private String mysteryType = "joyful"; // Default mystery
+    private MysteryType mysteryType = MysteryType.JOYFUL; // Default mystery
     private static final String KEY_MYSTERY_TYPE = "mysteryType";
     private static final String KEY_TOTAL_COUNT = "totalCount";
+    static final String EXTRA_MYSTERY_TYPE = "mysteryType";
+    static final String EXTRA_POSITION = "position"; // Prayer to resume at, when reopening a journaled rosary
+    private static final String LATENCY_FILE_NAME = "input_latency.txt";
 
     // Use static inner classes to avoid retain references to the activity
     private static class CompletionTask implements Runnable {
@@ -87,82 +93,106 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
         }
     }
     
-    // Custom touch listeners using WeakReferences to avoid memory leaks
-    private static class MainLayoutTouchListener implements View.OnTouchListener {
+    // Applies queued navigation steps without the queue holding on to the activity
+    private static class QueuedNavigator implements NavigationQueue.Navigator {
         private final WeakReference<MainActivity> activityRef;
         
-        public MainLayoutTouchListener(MainActivity activity) {
+        QueuedNavigator(MainActivity activity) {
             this.activityRef = new WeakReference<>(activity);
         }
         
         @Override
-        public boolean onTouch(View v, MotionEvent event) {
+        public void onStep(boolean forward, long eventTime) {
             MainActivity activity = activityRef.get();
-            if (activity == null || activity.isFinishing() || activity.isDestroyed()) {
-                return false;
+            if (activity == null) {
+                return;
             }
-            
-            try {
-                if (activity.gestureDetector != null && event != null) {
-                    return activity.gestureDetector.onTouchEvent(event);
-                }
-            } catch (Exception e) {
-                Log.e("MainActivity", "Error in mainLayout touch event: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+            if (forward) {
+                activity.advanceRosary(eventTime);
+            } else {
+                activity.previousRosary(eventTime);
+            }
+        }
+        
+        @Override
+        public void onStepsApplied() {
+            MainActivity activity = activityRef.get();
+            if (activity != null) {
+                activity.onNavigationApplied();
             }
-            return false;
         }
     }
     
-    private static class ScrollViewTouchListener implements View.OnTouchListener {
+    /**
+     * Follows the prayer pager, turning swipes into rosary navigation
+     */
+    private static class PrayerPageCallback extends ViewPager2.OnPageChangeCallback {
         private final WeakReference<MainActivity> activityRef;
+        private boolean dragged = false;              // The user is swiping, or the pager is settling after a swipe
+        private boolean draggingFromLastPage = false; // A drag started on the final prayer
+        private boolean draggedBack = false;          // ...and moved towards the previous one
 
-        public ScrollViewTouchListener(MainActivity activity) {
+        PrayerPageCallback(MainActivity activity) {
             this.activityRef = new WeakReference<>(activity);
         }
 
         @Override
-        public boolean onTouch(View v, MotionEvent event) {
+        public void onPageSelected(int page) {
             MainActivity activity = activityRef.get();
-            if (activity == null || activity.isFinishing() || activity.isDestroyed() || activity.gestureDetector == null) {
-                return false;
+            if (activity != null && !activity.isFinishing() && !activity.isDestroyed()) {
+                // A swipe is stamped with the touch event that released it, not with when the pager got here
+                activity.onPrayerPageSelected(page, dragged ? activity.lastTouchEventTime : SystemClock.uptimeMillis());
             }
+        }
 
-            // Pass the event to the GestureDetector.
-            // This will trigger the appropriate callbacks in MainActivity (onDown, onScroll, onFling, etc.).
-            boolean gestureConsumedByDetector = activity.gestureDetector.onTouchEvent(event);
-
-            // If the event is ACTION_UP and the GestureDetector consumed it (i.e., onFling returned true),
-            // then we should return true to indicate the event was handled as a swipe.
-            if (event.getAction() == MotionEvent.ACTION_UP && gestureConsumedByDetector) {
-                return true;
+        @Override
+        public void onPageScrolled(int page, float positionOffset, int positionOffsetPixels) {
+            if (draggingFromLastPage && page < PrayerPagerAdapter.pageForPosition(PrayerStructure.TOTAL_PRAYERS)) {
+                draggedBack = true;
             }
+        }
 
-            // For all other cases (ACTION_DOWN, ACTION_MOVE, or ACTION_UP not consumed by onFling),
-            // return false. This allows the ScrollView to handle its native scrolling behavior.
-            // The GestureDetector has already seen the event.
-            return false;
+        @Override
+        public void onPageScrollStateChanged(int state) {
+            MainActivity activity = activityRef.get();
+            if (activity == null || activity.isFinishing() || activity.isDestroyed() || activity.prayerPager == null) {
+                return;
+            }
+            int currentPage = activity.prayerPager.getCurrentItem();
+            int lastPage = PrayerPagerAdapter.pageForPosition(PrayerStructure.TOTAL_PRAYERS);
+            if (state == ViewPager2.SCROLL_STATE_DRAGGING) {
+                dragged = true;
+                draggingFromLastPage = currentPage == lastPage;
+                draggedBack = false;
+            } else if (state == ViewPager2.SCROLL_STATE_IDLE) {
+                // There is no page after the last prayer, so a forward swipe there asks to finish
+                if (draggingFromLastPage && !draggedBack && currentPage == lastPage) {
+                    activity.onSwipePastEnd(activity.lastTouchEventTime);
+                }
+                dragged = false;
+                draggingFromLastPage = false;
+                if (activity.prayerPagerAdapter != null) {
+                    activity.prayerPagerAdapter.resetScrollExcept(currentPage);
+                }
+            }
         }
     }
     
     /**
-     * Runnable for scrolling a ScrollView to the top safely
+     * Runnable for showing the latest latency percentiles in the debug overlay
      */
-    private static class ScrollToTopRunnable implements Runnable {
-        private final WeakReference<ScrollView> scrollViewReference;
+    private static class LatencyOverlayRunnable implements Runnable {
+        private final WeakReference<MainActivity> activityRef;
 
-        ScrollToTopRunnable(ScrollView scrollView) {
-            this.scrollViewReference = new WeakReference<>(scrollView);
+        LatencyOverlayRunnable(MainActivity activity) {
+            this.activityRef = new WeakReference<>(activity);
         }
 
         @Override
         public void run() {
-            try {
-                ScrollView scrollView = scrollViewReference.get();
-                if (scrollView != null) {
-                    scrollView.smoothScrollTo(0, 0);
-                }
-            } catch (Exception e) {
-                Log.e("ScrollToTopRunnable", "Error scrolling to top", e);
+            MainActivity activity = activityRef.get();
+            if (activity != null && activity.latencyTracker != null && activity.latencyOverlayTextView != null) {
+                activity.latencyOverlayTextView.setText(activity.latencyTracker.getSummary());
             }
         }
     }
@@ -203,8 +233,12 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
             this.handler = new Handler(Looper.getMainLooper());
         }
 
-        void postSafeAction(Runnable action) {
-            handler.post(() -> {
+        /**
+         * Wrap an action so it only runs while the activity is alive.
+         * Keep the result to post it repeatedly without allocating.
+         */
+        Runnable guard(Runnable action) {
+            return () -> {
                 MainActivity activity = activityReference.get();
                 if (activity != null && !activity.isFinishing() && !activity.isDestroyed()) {
                     try {
@@ -213,7 +247,19 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
                         Log.e("SafeHandler", "Error executing posted action", e);
                     }
                 }
-            });
+            };
+        }
+
+        void postSafeAction(Runnable action) {
+            handler.post(guard(action));
+        }
+
+        /**
+         * Post an action from guard(), replacing it if it is still pending.
+         */
+        void postGuarded(Runnable guardedAction) {
+            handler.removeCallbacks(guardedAction);
+            handler.post(guardedAction);
         }
 
         void postSafeActionDelayed(Runnable action, long delayMillis) {
@@ -235,131 +281,15 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
     }
     
     private SafeHandler safeHandler;
-    private MainLayoutTouchListener mainLayoutTouchListener;
-    private ScrollViewTouchListener scrollViewTouchListener;
     private DialogClickListener dialogClickListener;
+    private String generalMysteryTitle; // e.g. "Joyful Mysteries", resolved once per activity
+    private PrayerViewRenderer prayerViewRenderer; // Applies only the changed parts of each prayer to the views
+    private PrayerTextCache prayerTextCache;       // Prayers the next swipe will bind, measured off the UI thread
+    private PrayerPagerAdapter prayerPagerAdapter; // One recycled page per prayer
+    private PrayerPageCallback prayerPageCallback;
+    private long lastTouchEventTime; // Uptime of the latest touch event, the input behind a swipe
+    private int pagerPosition;       // The prayer the pager shows; 0 until the first render
 
-    /**
-     * A custom wrapper class for prayer information to ensure synchronization
-     */
-    private static class PrayerInfo {
-        final String prayerText;
-        final String prayerTitle;
-
-        PrayerInfo(String text, String title) {
-            this.prayerText = text != null ? text : "";
-            this.prayerTitle = title != null ? title : "";
-        }
-    }
-    
-    /**
-     * Get both the prayer text and title together to ensure they're synchronized
-     * This version includes additional null safety
-     */
-    private PrayerInfo getPrayerInfo(boolean isAdvancing) {
-        if (rosaryState == null) {
-            return new PrayerInfo("", "");
-        }
-        
-        String text;
-        String title;
-        
-        try {
-            if (isAdvancing) {
-                // For advancing forward - get new text and matching title
-                text = rosaryState.advance();
-                // Additional null check
-                if (text == null) {
-                    Log.e(TAG, "Received null prayer text from rosaryState.advance()");
-                    text = ""; // Use empty string instead of null
-                }
-                title = rosaryState.getCurrentPrayerLabel();
-                if (title == null) {
-                    title = "";
-                }
-            } else {
-                // For backward navigation
-                // Store the old state to know where we're coming from
-                int oldStage = rosaryState.getStage();
-                int oldPrayerCount = rosaryState.getPrayerCount();
-                
-                // Get the new prayer text by going back
-                text = rosaryState.goBack();
-                // Additional null check
-                if (text == null) {
-                    Log.e(TAG, "Received null prayer text from rosaryState.goBack()");
-                    text = ""; // Use empty string instead of null
-                }
-                
-                // Get the title after the state has changed
-                title = rosaryState.getCurrentPrayerLabel();
-                if (title == null) {
-                    title = "";
-                }
-                
-                // Extra sanity check to ensure UI is fully synced
-                if (oldStage != rosaryState.getStage() || oldPrayerCount != rosaryState.getPrayerCount()) {
-                    // State changed, make sure the UI refreshes completely
-                    title = rosaryState.getCurrentPrayerLabel();
-                    if (title == null) {
-                        title = "";
-                    }
-                }
-            }
-        } catch (Exception e) {
-            Log.e(TAG, "Error in getPrayerInfo: " + (e.getMessage() != null ? e.getMessage() : "unknown"), e);
-            return new PrayerInfo("", "");
-        }
-        
-        return new PrayerInfo(text, title);
-    }
-    
-    /**
-     * Update the UI with synchronized prayer information
-     */
-    private void updatePrayerUI(PrayerInfo prayerInfo) {
-        try {
-            // Check if activity is still valid
-            if (isFinishing() || isDestroyed()) {
-                return;
-            }
-            
-            // Additional null check for prayerInfo
-            if (prayerInfo == null) {
-                Log.e(TAG, "Attempted to update UI with null prayerInfo");
-                prayerInfo = new PrayerInfo("", "");
-            }
-            
-            // Update prayer text
-            if (prayerTextView != null) {
-                String text = prayerInfo.prayerText != null ? prayerInfo.prayerText : "";
-                prayerTextView.setText(text);
-                
-                // Scroll to the top
-                if (prayerTextScrollView != null && safeHandler != null) {
-                    safeHandler.postSafeAction(new ScrollToTopRunnable(prayerTextScrollView));
-                }
-            }
-            
-            // Update prayer title/label
-            if (prayerLabelTextView != null) {
-                String title = prayerInfo.prayerTitle != null ? prayerInfo.prayerTitle : "";
-                prayerLabelTextView.setText(title);
-            }
-            
-            // Update mystery title
-            updateMysteryTitle();
-            
-            // Update the progress bar
-            updateProgressBar();
-            
-            // DO NOT call checkCompletion() here. It will be called in advanceRosary() after advancing.
-            
-        } catch (Exception e) {
-            Log.e(TAG, "Error updating prayer UI: " + (e.getMessage() != null ? e.getMessage() : "unknown"), e);
-        }
-    }
-    
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         try {
@@ -369,12 +299,6 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
             super.onCreate(savedInstanceState);
             setContentView(R.layout.activity_main);
             
-            // Initialize RosaryPrayers with application context to load prayers from resources
-            RosaryPrayers.initialize(getApplicationContext());
-            
-            // Set context for RosaryState to access string resources
-            RosaryState.setContext(getApplicationContext());
-            
             // Initialize handler
             safeHandler = new SafeHandler(this);
             
@@ -384,170 +308,145 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
             // Initialize DialogClickListener here as well to be safe
             dialogClickListener = new DialogClickListener(this);
             
-            // Initialize vibrator for haptic feedback
-            vibrator = (Vibrator) getSystemService(VIBRATOR_SERVICE);
-            
-            // Initialize gesture detector for swipe support
-            gestureDetector = new GestureDetectorCompat(this, this);
+            // The session survives configuration changes, so a recreate only binds views to it
+            session = new ViewModelProvider(this).get(RosarySession.class);
+            if (!session.isStarted()) {
+                startSession(savedInstanceState);
+            } else if (session.getPrayerTextCache() != null) {
+                // Text was measured for the old configuration
+                session.getPrayerTextCache().invalidate();
+            }
+            mysteryType = session.getMysteryType();
+            rosaryState = session.getRosaryState();
+            haptics = session.getHaptics();
+            prayerTextCache = session.getPrayerTextCache();
+            timingRecorder = session.getTimingRecorder();
+            generalMysteryTitle = null; // Resolve in the current language
             
-            // Initialize touch listeners
-            mainLayoutTouchListener = new MainLayoutTouchListener(this);
-            scrollViewTouchListener = new ScrollViewTouchListener(this); // Ensure scrollViewTouchListener is instantiated
+            // Navigation steps are applied and rendered once per frame
+            navigationQueue = new NavigationQueue(new QueuedNavigator(this));
             
-            // Get mystery type from intent or saved instance state
-            if (savedInstanceState != null) {
-                mysteryType = savedInstanceState.getString(KEY_MYSTERY_TYPE, "joyful");
-            } else if (getIntent() != null && getIntent().getExtras() != null) {
-                String intentMysteryType = getIntent().getStringExtra("mysteryType");
-                if (intentMysteryType != null && !intentMysteryType.isEmpty()) {
-                    mysteryType = intentMysteryType;
-                }
+            // Measure input-to-draw latency in debuggable builds
+            if (session.getLatencyTracker() != null) {
+                initializeLatencyTracking(session.getLatencyTracker());
             }
             
-            // Initialize Rosary state
-            rosaryState = new RosaryState(mysteryType);
-
-            if (savedInstanceState != null) {
-                int savedTotalCount = savedInstanceState.getInt(KEY_TOTAL_COUNT, 0);
-                int targetCountForDisplay = savedTotalCount;
-
-                if (savedTotalCount == 0) {
-                    // If savedTotalCount is 0, it means state was before the first prayer.
-                    // Advance once to get to the first prayer (totalCount = 1).
-                    rosaryState.advance(); 
-                    targetCountForDisplay = 1; // We will display the prayer for totalCount = 1
-                } else { // savedTotalCount > 0
-                    // Advance rosaryState's internal counters to match savedTotalCount.
-                    for (int i = 0; i < savedTotalCount; i++) {
-                        rosaryState.advance(); 
-                    }
-                    // After this loop, rosaryState.getTotalCount() should be equal to savedTotalCount.
-                    // targetCountForDisplay is already savedTotalCount.
-                }
-
-                // Fetch the prayer text and label corresponding to targetCountForDisplay.
-                String textForUI = rosaryState.getPrayerTextByTotalCount(targetCountForDisplay);
-                String labelForUI = rosaryState.getPrayerLabelByTotalCount(targetCountForDisplay);
-
-                if (prayerTextView != null) {
-                    prayerTextView.setText(textForUI != null ? textForUI : "");
-                }
-                if (prayerLabelTextView != null) {
-                    prayerLabelTextView.setText(labelForUI != null ? labelForUI : "");
-                }
-            } else {
-                // No savedInstanceState bundle at all - completely fresh start
-                String initialPrayerText = rosaryState.advance(); // Advances to totalCount = 1
-                String initialPrayerLabel = rosaryState.getPrayerLabelByTotalCount(1); // Get label for totalCount = 1
-
-                if (prayerTextView != null) {
-                    prayerTextView.setText(initialPrayerText != null ? initialPrayerText : "");
-                }
-                if (prayerLabelTextView != null) {
-                    prayerLabelTextView.setText(initialPrayerLabel != null ? initialPrayerLabel : "");
-                }
+            // Page through the prayers; the pages next to the current one are kept bound
+            if (prayerPager != null) {
+                prayerPagerAdapter = new PrayerPagerAdapter(rosaryState, prayerTextCache);
+                prayerPager.setOffscreenPageLimit(1);
+                prayerPager.setAdapter(prayerPagerAdapter);
+                prayerPageCallback = new PrayerPageCallback(this);
+                prayerPager.registerOnPageChangeCallback(prayerPageCallback);
             }
+            prayerViewRenderer = new PrayerViewRenderer(prayerPager, prayerLabelTextView, mysteryTitleTextView,
+                    rosaryBeadsView);
             
-            // Update other UI elements
-            updateMysteryTitle();
-            updateProgressBar();
+            // Show the prayer under the cursor
+            renderCurrentPrayer();
             
             // Set instructions text
             updateInstructions();
             
-            // Set up touch listener for the main layout to enable swipe gestures
-            final ConstraintLayout mainLayout = findViewById(R.id.mainLayout);
-            if (mainLayout != null) {
-                mainLayout.setOnTouchListener(mainLayoutTouchListener);
-            }
-            
-            // Set up touch listener for the ScrollView to handle scrolling and swipe arbitration
-            if (prayerTextScrollView != null) {
-                prayerTextScrollView.setOnTouchListener(scrollViewTouchListener);
-            }
-            
         } catch (Exception e) {
             Log.e(TAG, "Error in onCreate: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
         }
     }
 
+    /**
+     * Start the rosary session for a new activity: where it left off if the
+     * process was killed or the journal was resumed, otherwise at the first
+     * prayer of the chosen mysteries.
+     * @param savedInstanceState The bundle saved before process death, or null
+     */
+    private void startSession(@Nullable Bundle savedInstanceState) {
+        MysteryType startMysteryType = mysteryType;
+        int startPosition = 1;
+        if (savedInstanceState != null) {
+            startMysteryType = MysteryType.fromKey(savedInstanceState.getString(KEY_MYSTERY_TYPE), MysteryType.JOYFUL);
+            // A count of 0 was saved before the first prayer; the session resumes at the first prayer then.
+            // Seeking is constant time, so restoring late in the rosary costs the same as at the start.
+            startPosition = savedInstanceState.getInt(KEY_TOTAL_COUNT, 0);
+        } else if (getIntent() != null && getIntent().getExtras() != null) {
+            startMysteryType = MysteryType.fromKey(getIntent().getStringExtra(EXTRA_MYSTERY_TYPE), startMysteryType);
+            startPosition = getIntent().getIntExtra(EXTRA_POSITION, startPosition);
+        }
+        session.start(startMysteryType, startPosition);
+    }
+
     @Override
     protected void onSaveInstanceState(@NonNull Bundle outState) {
         super.onSaveInstanceState(outState);
         if (rosaryState != null) {
-            outState.putString(KEY_MYSTERY_TYPE, mysteryType);
+            outState.putString(KEY_MYSTERY_TYPE, mysteryType.key());
             outState.putInt(KEY_TOTAL_COUNT, rosaryState.getTotalCount());
         }
     }
     
+    @Override
+    protected void onResume() {
+        super.onResume();
+        if (timingRecorder != null && rosaryState != null) {
+            timingRecorder.resume(rosaryState.getTotalCount(), SystemClock.uptimeMillis());
+        }
+    }
+    
+    @Override
+    protected void onPause() {
+        super.onPause();
+        // The process may be killed once in the background; make sure the position is on disk
+        if (session != null) {
+            session.flushJournal();
+        }
+        // Time away is not time spent on the prayer; this also saves the timing so far
+        if (timingRecorder != null) {
+            timingRecorder.pause(SystemClock.uptimeMillis());
+        }
+        // Keep the latest latency numbers where they can be pulled off the device; written in the background
+        if (latencyTracker != null) {
+            latencyTracker.writeTo(new File(getFilesDir(), LATENCY_FILE_NAME));
+        }
+    }
+    
+    @Override
+    public void dump(@NonNull String prefix, @Nullable FileDescriptor fd, @NonNull PrintWriter writer, @Nullable String[] args) {
+        super.dump(prefix, fd, writer, args);
+        if (latencyTracker != null) {
+            latencyTracker.dump(prefix, writer);
+        }
+    }
+    
     @Override
     protected void onDestroy() {
         // Remove any pending callbacks to prevent memory leaks and crashes
         if (safeHandler != null) {
             safeHandler.removeCallbacksAndMessages();
         }
+        if (navigationQueue != null) {
+            navigationQueue.cancel();
+        }
+        if (prayerPager != null && prayerPageCallback != null) {
+            prayerPager.unregisterOnPageChangeCallback(prayerPageCallback);
+        }
+        if (latencyTracker != null) {
+            getWindow().getDecorView().getViewTreeObserver().removeOnDrawListener(latencyTracker);
+            latencyTracker.setOnRecorded(null);
+        }
+        // The haptics engine and text cache belong to the session, which stops them when it is cleared
         super.onDestroy();
     }
     
     private void initializeViews() {
         prayerLabelTextView = findViewById(R.id.prayerLabelTextView);
-        prayerTextView = findViewById(R.id.prayerTextView);
         mysteryTitleTextView = findViewById(R.id.mysteryTitleTextView);
         instructionsTextView = findViewById(R.id.instructionsTextView);
-        prayerTextScrollView = findViewById(R.id.prayerTextScrollView);
-        rosaryProgressBar = findViewById(R.id.rosaryProgressBar);
+        prayerPager = findViewById(R.id.prayerPager);
+        rosaryBeadsView = findViewById(R.id.rosaryBeadsView);
         progressTextView = findViewById(R.id.progressTextView);
         
-        // Configure ScrollView to only show scrollbar when scrolling
-        if (prayerTextScrollView != null) {
-            prayerTextScrollView.setScrollbarFadingEnabled(true);
-            prayerTextScrollView.setVerticalScrollBarEnabled(true);
-            prayerTextScrollView.setScrollBarFadeDuration(1500); // 1.5 seconds fade delay
-        }
-        
-        // Set up progress bar max value
-        if (rosaryProgressBar != null) {
-            rosaryProgressBar.setMax(80); // Total count for a complete rosary
-        }
-    }
-    
-    private void updateMysteryTitle() {
-        try {
-            // Check if activity is still valid
-            if (isFinishing() || isDestroyed()) {
-                return;
-            }
-            
-            if (mysteryTitleTextView != null && rosaryState != null) {
-                // Mystery title should always show the current mystery type
-                // (never show prayer names like "Fatima Prayer" here)
-                switch (mysteryType) {
-                    case "joyful":
-                        mysteryTitleTextView.setText(getString(R.string.joyful_mysteries));
-                        break;
-                    case "sorrowful":
-                        mysteryTitleTextView.setText(getString(R.string.sorrowful_mysteries));
-                        break;
-                    case "glorious":
-                        mysteryTitleTextView.setText(getString(R.string.glorious_mysteries));
-                        break;
-                    case "luminous":
-                        mysteryTitleTextView.setText(getString(R.string.luminous_mysteries));
-                        break;
-                }
-                
-                // If we're in a decade, add the specific mystery title
-                // IMPORTANT: Don't change mystery title during Fatima Prayer (count 13)
-                if (rosaryState.getStage() == RosaryState.STAGE_DECADE && 
-                    rosaryState.getPrayerCount() > 0 && rosaryState.getPrayerCount() != 13) {
-                    String currentMysteryTitle = rosaryState.getCurrentMysteryTitle();
-                    if (currentMysteryTitle != null && !currentMysteryTitle.isEmpty()) {
-                        mysteryTitleTextView.setText(currentMysteryTitle);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            Log.e(TAG, "Error updating mystery title: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        // Hide the progress text display as requested
+        if (progressTextView != null) {
+            progressTextView.setVisibility(View.GONE);
         }
     }
     
@@ -608,19 +507,12 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
 
     /**
      * Provide haptic feedback based on the type of transition
-     * @param isBeadTransition Whether this is a transition between bead types
+     * @param transitionKind One of the HapticsEngine transition kinds
      */
-    private void provideHapticFeedback(boolean isBeadTransition) {
+    private void provideHapticFeedback(int transitionKind) {
         try {
-            if (vibrator != null && vibrator.hasVibrator()) {
-                if (isBeadTransition) {
-                    // Triple vibration for transitions between small/large beads
-                    long[] pattern = {0, 50, 100, 50, 100, 50};  // Wait 0ms, vibrate 50ms, wait 100ms, vibrate 50ms, wait 100ms, vibrate 50ms
-                    vibrator.vibrate(pattern, -1);      // -1 means don't repeat the pattern
-                } else {
-                    // Single vibration for regular transitions
-                    vibrator.vibrate(50);
-                }
+            if (haptics != null) {
+                haptics.play(transitionKind);
             }
         } catch (Exception e) {
             Log.e(TAG, "Error providing haptic feedback: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
@@ -628,10 +520,10 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
     }
     
     /**
-     * Navigate backward in the rosary using the totalCount approach
-     * This completely bypasses state tracking issues by using direct mapping
+     * Step backward in the rosary using the totalCount approach.
+     * Only moves the cursor and plays the haptics; the queue renders once per frame.
      */
-    private void previousRosary() {
+    private void previousRosary(long eventTime) {
         try {
             // Basic validity checks
             if (isFinishing() || isDestroyed() || rosaryState == null) {
@@ -642,61 +534,29 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
             int currentCount = rosaryState.getTotalCount();
             
             // Log the current state before going back
-            Log.d(TAG, "BEFORE going back - total count: " + currentCount);
+            RosaryLog.d(TAG, "BEFORE going back - total count: %d", currentCount);
             
             // Don't go back from the beginning
             if (currentCount <= 1) {
-                Log.d(TAG, "Already at the beginning, not going back.");
+                RosaryLog.d(TAG, "Already at the beginning, not going back.");
                 return;
             }
             
             // Calculate the previous count
             int previousCount = currentCount - 1;
-            Log.d(TAG, "Going back to total count: " + previousCount);
-            
-            // Get the prayer text directly from the total count
-            String previousPrayerText = rosaryState.getPrayerTextByTotalCount(previousCount);
-            String previousPrayerLabel = rosaryState.getPrayerLabelByTotalCount(previousCount);
-            String mysteryTitle = rosaryState.getMysteryTitleByTotalCount(previousCount);
+            RosaryLog.d(TAG, "Going back to total count: %d", previousCount);
             
-            Log.d(TAG, "Previous prayer text (first 20 chars): " + 
-                  (previousPrayerText.length() > 20 ? previousPrayerText.substring(0, 20) + "..." : previousPrayerText));
-            Log.d(TAG, "Previous prayer label: " + previousPrayerLabel);
-            
-            // Update the state tracking in rosaryState to match our new position
-            // This call updates internal state counters
             rosaryState.goBack();
-            
-            // Update UI with our carefully retrieved values
-            if (prayerTextView != null) {
-                prayerTextView.setText(previousPrayerText);
+            prayerChanged = true;
+            if (timingRecorder != null) {
+                timingRecorder.onStep(rosaryState.getTotalCount(), eventTime, false);
             }
-            
-            if (prayerLabelTextView != null) {
-                prayerLabelTextView.setText(previousPrayerLabel);
-            }
-            
-            // Update mystery title if we have one
-            if (mysteryTitleTextView != null && !mysteryTitle.isEmpty()) {
-                mysteryTitleTextView.setText(mysteryTitle);
-            } else {
-                // Use default mystery type title when not in a specific mystery
-                updateMysteryTitle();
-            }
-            
-            // Update progress bar (this will reflect the new count after goBack())
-            updateProgressBar();
-            
-            // Scroll to top
-            if (prayerTextScrollView != null && safeHandler != null) {
-                safeHandler.postSafeAction(new ScrollToTopRunnable(prayerTextScrollView));
+            if (latencyTracker != null) {
+                latencyTracker.onStepApplied(LatencyTracker.BACK, eventTime);
             }
             
             // Two vibrations for backward navigation instead of one
-            if (vibrator != null && vibrator.hasVibrator()) {
-                long[] pattern = {0, 50, 100, 50};  // Wait 0ms, vibrate 50ms, wait 100ms, vibrate 50ms
-                vibrator.vibrate(pattern, -1);      // -1 means don't repeat the pattern
-            }
+            provideHapticFeedback(HapticsEngine.BACKWARD);
             
         } catch (Exception e) {
             Log.e(TAG, "Error navigating backward: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
@@ -707,21 +567,48 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
      * Helper method to get the general mystery title based on mystery type
      */
     private String getGeneralMysteryTitle() {
+        if (generalMysteryTitle == null) {
+            generalMysteryTitle = resolveGeneralMysteryTitle();
+        }
+        return generalMysteryTitle;
+    }
+
+    private String resolveGeneralMysteryTitle() {
         switch (mysteryType) {
-            case "joyful":
+            case JOYFUL:
                 return getString(R.string.joyful_mysteries);
-            case "sorrowful":
+            case SORROWFUL:
                 return getString(R.string.sorrowful_mysteries);
-            case "glorious":
+            case GLORIOUS:
                 return getString(R.string.glorious_mysteries);
-            case "luminous":
+            case LUMINOUS:
                 return getString(R.string.luminous_mysteries);
             default:
                 return "";
         }
     }
+
+    /**
+     * Start measuring input-to-draw latency and show the debug overlay.
+     * Each frame drawn after navigation records the latency of its steps.
+     */
+    private void initializeLatencyTracking(LatencyTracker tracker) {
+        latencyOverlayTextView = findViewById(R.id.latencyOverlayTextView);
+        if (latencyOverlayTextView != null) {
+            latencyOverlayTextView.setVisibility(View.VISIBLE);
+        }
+        latencyOverlayAction = safeHandler.guard(new LatencyOverlayRunnable(this));
+        // Views cannot change while being drawn, so refresh the overlay after the frame
+        latencyTracker = tracker;
+        latencyTracker.setOnRecorded(() -> safeHandler.postGuarded(latencyOverlayAction));
+        getWindow().getDecorView().getViewTreeObserver().addOnDrawListener(latencyTracker);
+    }
     
-    private void advanceRosary() {
+    /**
+     * Step forward in the rosary.
+     * Only moves the cursor and plays the haptics; the queue renders once per frame.
+     */
+    private void advanceRosary(long eventTime) {
         try {
             // Check if activity is still valid
             if (isFinishing() || isDestroyed()) {
@@ -729,78 +616,125 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
             }
             
             if (rosaryState != null) {
-                // Get the current total count before advancing
-                int currentCount = rosaryState.getTotalCount();
-                
-                // Check if we are currently at the last prayer of the Rosary sequence
-                boolean wasAtMaxCount = (currentCount == rosaryState.getMaxCount());
-
-                // If we are already past the max count (e.g., completion dialog shown, user tries to advance again)
-                // OR if the rosary is already complete (but dialog hasn't been shown yet)
-                if (currentCount > rosaryState.getMaxCount() || rosaryState.isComplete()) {
-                    // Show completion dialog if not already shown and trying to navigate forward
-                    checkCompletion();
-                    Log.d(TAG, "Already past max count or rosary complete, showing completion dialog.");
+                // If the rosary is already complete, advancing again asks for the completion dialog
+                if (rosaryState.isComplete()) {
+                    completionRequested = true;
+                    RosaryLog.d(TAG, "Already past max count or rosary complete, showing completion dialog.");
                     return;
                 }
                 
-                // Check if this is a transition between bead types before advancing
-                boolean isBeadTransition = rosaryState.isBeadTypeTransition(true);
+                // Classify the step before advancing: leaving a decade, or moving between bead types
+                int transitionKind = rosaryState.isAtDecadeEnd() ? HapticsEngine.DECADE_END
+                        : rosaryState.isBeadTypeTransition(true) ? HapticsEngine.BEAD_CHANGE
+                        : HapticsEngine.FORWARD;
                 
-                // Advance the internal state first. This will update totalCount and isComplete.
+                // Advance the internal state. This will update totalCount and isComplete.
                 rosaryState.advance();
-
-                // Now, check if we *just* completed the Rosary by advancing from the last prayer
-                if (wasAtMaxCount && rosaryState.isComplete() && rosaryState.getTotalCount() > rosaryState.getMaxCount()) {
-                    checkCompletion(); // Call checkCompletion to show the dialog
-                    // Clear the prayer text and label as there's no prayer after completion dialog
-                    if (prayerTextView != null) prayerTextView.setText("");
-                    if (prayerLabelTextView != null) prayerLabelTextView.setText(getString(R.string.complete)); // Or a specific "Completed" label
-                    updateProgressBar(); // Update progress to show it's past the max
-                    return; // Stop further UI updates for prayer text for this advance
-                }
-                
-                // If not completed, or completed but not yet past max (i.e., displaying the last prayer), get the prayer content
-                String nextPrayerText = rosaryState.getPrayerTextByTotalCount(rosaryState.getTotalCount()); 
-                String nextPrayerLabel = rosaryState.getPrayerLabelByTotalCount(rosaryState.getTotalCount());
-                String mysteryTitle = rosaryState.getMysteryTitleByTotalCount(rosaryState.getTotalCount());
-                
-                // Update prayer text
-                if (prayerTextView != null) {
-                    prayerTextView.setText(nextPrayerText);
-                }
-                
-                // Update prayer label
-                if (prayerLabelTextView != null) {
-                    prayerLabelTextView.setText(nextPrayerLabel);
-                }
-                
-                // Update mystery title if we have one
-                if (mysteryTitleTextView != null && !mysteryTitle.isEmpty()) {
-                    mysteryTitleTextView.setText(mysteryTitle);
-                } else {
-                    // Use default mystery type title when not in a specific mystery
-                    updateMysteryTitle();
+                prayerChanged = true;
+                if (timingRecorder != null) {
+                    timingRecorder.onStep(rosaryState.getTotalCount(), eventTime,
+                            transitionKind == HapticsEngine.DECADE_END);
                 }
-                
-                // Update progress bar
-                updateProgressBar();
-                
-                // Scroll to the top
-                if (prayerTextScrollView != null && safeHandler != null) {
-                    safeHandler.postSafeAction(new ScrollToTopRunnable(prayerTextScrollView));
+                if (latencyTracker != null) {
+                    latencyTracker.onStepApplied(rosaryState.isComplete() ? LatencyTracker.COMPLETION
+                            : transitionKind == HapticsEngine.DECADE_END ? LatencyTracker.DECADE_BOUNDARY
+                            : LatencyTracker.FORWARD, eventTime);
                 }
                 
-                // DO NOT call checkCompletion() here anymore, it's called earlier if needed.
-                
-                // Provide appropriate haptic feedback
-                provideHapticFeedback(isBeadTransition);
+                // Provide appropriate haptic feedback for every step, even when several share a frame
+                provideHapticFeedback(rosaryState.isComplete() ? HapticsEngine.COMPLETION : transitionKind);
             }
         } catch (Exception e) {
             Log.e(TAG, "Error advancing rosary: " + (e.getMessage() != null ? e.getMessage() : "unknown"), e);
         }
     }
     
+    @Override
+    public boolean dispatchTouchEvent(MotionEvent event) {
+        // Noted for every touch so a swipe's steps can be stamped with the input that made them
+        lastTouchEventTime = event.getEventTime();
+        return super.dispatchTouchEvent(event);
+    }
+    
+    /**
+     * Follow a page the user swiped to, one step at a time so each bead still
+     * gets its haptics. The steps join the navigation queue behind any key
+     * presses still waiting for a frame, so nothing is reordered. Pages
+     * selected by rendering are already in step.
+     * @param page The selected page
+     * @param eventTime Uptime of the input that selected the page, in milliseconds
+     */
+    private void onPrayerPageSelected(int page, long eventTime) {
+        if (rosaryState == null || navigationQueue == null || pagerPosition == 0) {
+            return;
+        }
+        // Relative to the page the user swiped from; queued steps have not moved the cursor yet
+        int target = PrayerPagerAdapter.positionForPage(page);
+        int steps = target - pagerPosition;
+        pagerPosition = target;
+        for (int i = 0; i < Math.abs(steps); i++) {
+            navigationQueue.post(steps > 0, eventTime);
+        }
+    }
+    
+    /**
+     * The user swiped forward on the final prayer
+     * @param eventTime Uptime of the touch event that ended the swipe, in milliseconds
+     */
+    private void onSwipePastEnd(long eventTime) {
+        if (navigationQueue != null) {
+            navigationQueue.post(true, eventTime);
+        }
+    }
+    
+    /**
+     * Render the prayer under the cursor after a batch of navigation steps,
+     * then show the completion dialog if a step asked for it.
+     */
+    private void onNavigationApplied() {
+        try {
+            // Check if activity is still valid
+            if (isFinishing() || isDestroyed() || rosaryState == null) {
+                return;
+            }
+            
+            if (prayerChanged) {
+                prayerChanged = false;
+                renderCurrentPrayer();
+                session.onPositionChanged();
+            }
+            
+            if (completionRequested) {
+                completionRequested = false;
+                checkCompletion();
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Error showing navigation result: " + (e.getMessage() != null ? e.getMessage() : "unknown"), e);
+        }
+    }
+    
+    /**
+     * Show the prayer under the cursor. Only the parts that differ from what
+     * is already on screen are updated.
+     */
+    private void renderCurrentPrayer() {
+        PrayerViewState viewState = PrayerViewState.of(rosaryState, getGeneralMysteryTitle());
+        RosaryLog.d(TAG, "Showing prayer: %s", viewState.prayerLabel);
+        // Set first: moving the pager selects the page, and that selection is not a swipe
+        pagerPosition = viewState.position;
+        if (prayerViewRenderer != null) {
+            prayerViewRenderer.render(viewState);
+        }
+        
+        // Measure the prayers the next swipe will bind while the user reads this one
+        if (prayerTextCache != null) {
+            int position = viewState.position;
+            prayerTextCache.prefetch(
+                    position > 2 ? rosaryState.getPrayerTextByTotalCount(position - 2) : null,
+                    position < rosaryState.getMaxCount() - 1 ? rosaryState.getPrayerTextByTotalCount(position + 2) : null);
+        }
+    }
+    
     // Handle volume buttons to advance/go back in the rosary
     @Override
     public boolean onKeyDown(int keyCode, KeyEvent event) {
@@ -819,11 +753,11 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
             if (event.getRepeatCount() == 0) {
                 if (keyCode == KeyEvent.KEYCODE_VOLUME_DOWN && !volumeDownPressed) {
                     volumeDownPressed = true;
-                    advanceRosary();
+                    navigationQueue.post(true, event.getEventTime());
                     return true;
                 } else if (keyCode == KeyEvent.KEYCODE_VOLUME_UP && !volumeUpPressed) {
                     volumeUpPressed = true;
-                    previousRosary();
+                    navigationQueue.post(false, event.getEventTime());
                     return true;
                 } else if (keyCode == KeyEvent.KEYCODE_BACK) {
                     // Handle back button press
@@ -890,172 +824,4 @@ public class MainActivity extends BaseActivity implements GestureDetector.OnGest
             super.onBackPressed(); // Fall back to default behavior if our custom handling fails
         }
     }
-    
-    // Implementation of GestureDetector.OnGestureListener for swipe support
-    
-    @Override
-    public boolean onDown(MotionEvent e) {
-        return true; // Required for gestures to be detected
-    }
-
-    @Override
-    public void onShowPress(MotionEvent e) {
-        // Not needed
-    }
-
-    @Override
-    public boolean onSingleTapUp(MotionEvent e) {
-        // Disable advancing the rosary on tap - only allow swipes and volume buttons
-        return false;
-    }
-
-    @Override
-    public boolean onScroll(MotionEvent e1, MotionEvent e2, float distanceX, float distanceY) {
-        // Allow normal scrolling in ScrollView
-        return false;
-    }
-
-    @Override
-    public void onLongPress(MotionEvent e) {
-        // Not needed
-    }
-
-    @Override
-    public boolean onFling(MotionEvent e1, MotionEvent e2, float velocityX, float velocityY) {
-        try {
-            // Check if activity is finishing or destroyed
-            if (isFinishing() || isDestroyed()) {
-                return false;
-            }
-            
-            // Check if motion events are null
-            if (e1 == null || e2 == null) {
-                Log.e(TAG, "onFling received null MotionEvent");
-                return false;
-            }
-            
-            float diffX = e2.getX() - e1.getX();
-            float diffY = e2.getY() - e1.getY();
-            
-            // Only respond to horizontal swipes for navigation
-            if (Math.abs(diffX) > Math.abs(diffY)) {
-                if (Math.abs(diffX) > SWIPE_THRESHOLD && Math.abs(velocityX) > SWIPE_VELOCITY_THRESHOLD) {
-                    if (diffX > 0) {
-                        // Right swipe - go back to previous prayer
-                        previousRosary();
-                        return true;
-                    } else {
-                        // Left swipe - advance to next prayer
-                        advanceRosary();
-                        return true;
-                    }
-                }
-            }
-            // Ignore vertical swipes for navigation - they're just for scrolling
-        } catch (Exception e) {
-            Log.e(TAG, "Error in onFling: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
-        }
-        return false;
-    }
-
-    /**
-     * Update the progress bar to show current position in the rosary
-     */
-    private void updateProgressBar() {
-        try {
-            // Check if activity is still valid
-            if (isFinishing() || isDestroyed()) {
-                return;
-            }
-            
-            if (rosaryState != null && rosaryProgressBar != null && progressTextView != null) {
-                int currentProgress = rosaryState.getTotalCount();
-                int maxProgress = rosaryState.getMaxCount();
-                
-                // Update progress bar
-                rosaryProgressBar.setProgress(currentProgress);
-                
-                // Hide the text display as requested
-                progressTextView.setVisibility(View.GONE);
-            }
-        } catch (Exception e) {
-            Log.e(TAG, "Error updating progress bar: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
-        }
-    }
-
-    /**
-     * Initialize or re-initialize the rosary state with the given mystery type
-     * @param mysteryType The type of mystery to initialize (joyful, sorrowful, glorious, luminous)
-     */
-    private void initializeRosaryState(String mysteryType) {
-        try {
-            this.mysteryType = mysteryType;
-            rosaryState = new RosaryState(mysteryType);
-            
-            // Update the UI with the first prayer
-            PrayerInfo initialPrayerInfo = getPrayerInfo(true);
-            updatePrayerUI(initialPrayerInfo);
-        } catch (Exception e) {
-            Log.e(TAG, "Error initializing rosary state: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
-        }
-    }
-
-    /**
-     * Update all UI elements with the current rosary state
-     */
-    private void updateAllUI() {
-        try {
-            // Check if activity is still valid
-            if (isFinishing() || isDestroyed()) {
-                return;
-            }
-            
-            if (prayerTextView != null && prayerLabelTextView != null && rosaryState != null) {
-                // Update prayer title/label
-                prayerLabelTextView.setText(rosaryState.getCurrentPrayerLabel());
-
-                // Update mystery title  
-                updateMysteryTitle();
-                
-                // Update the progress bar
-                updateProgressBar();
-            }
-        } catch (Exception e) {
-            Log.e(TAG, "Error updating UI: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
-        }
-    }
-    
-    /**
-     * Update the prayer text display with additional null safety
-     */
-    private void updatePrayerText(String prayerText) {
-        try {
-            // Check if activity is still valid
-            if (isFinishing() || isDestroyed()) {
-                return;
-            }
-
-            // Add null check for prayerText
-            if (prayerText == null) {
-                Log.e(TAG, "Attempted to update prayer text with null value");
-                prayerText = ""; // Use empty string instead of null
-            }
-
-            if (prayerTextView != null) {
-                prayerTextView.setText(prayerText);
-
-                // Scroll to the top
-                if (prayerTextScrollView != null && safeHandler != null) {
-                    safeHandler.postSafeAction(new ScrollToTopRunnable(prayerTextScrollView));
-                }
-                
-                // Update all UI elements to match the new state
-                updateAllUI();
-
-                // DO NOT call checkCompletion() here. It is handled by advanceRosary().
-            }
-        } catch (Exception e) {
-            Log.e(TAG, "Error updating prayer text: " + (e.getMessage() != null ? e.getMessage() : "unknown"), e);
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package com.openrosary.app;
+
+import android.view.Choreographer;
+
+/**
+ * Collects navigation steps from key presses and swipes and applies them
+ * once per display frame.
+ *
+ * Steps are kept in arrival order and drained together on the next frame:
+ * each one moves the rosary cursor, then the screen is rendered once for the
+ * whole batch. However fast the beads are counted, every step is applied and
+ * the prayer text is laid out at most once per frame. Main thread only.
+ */
+final class NavigationQueue implements Choreographer.FrameCallback {
+    private static final int INITIAL_CAPACITY = 16; // Power of two, so wrapping is a mask
+
+    /**
+     * Applies the drained steps.
+     */
+    interface Navigator {
+        /**
+         * Apply one step to the rosary state. Must not render.
+         * @param forward True to advance, false to go back
+         * @param eventTime Uptime of the input event that caused the step, in milliseconds
+         */
+        void onStep(boolean forward, long eventTime);
+
+        /**
+         * Render the state reached after a batch of steps.
+         */
+        void onStepsApplied();
+    }
+
+    private final Navigator navigator;
+    private final Choreographer choreographer;
+    private boolean[] steps = new boolean[INITIAL_CAPACITY]; // Ring buffer of pending steps, true = forward
+    private long[] eventTimes = new long[INITIAL_CAPACITY];  // Input event time of each pending step
+    private int head;
+    private int size;
+    private boolean frameScheduled;
+
+    NavigationQueue(Navigator navigator) {
+        this.navigator = navigator;
+        this.choreographer = Choreographer.getInstance();
+    }
+
+    /**
+     * Queue a step to be applied on the next frame.
+     * @param forward True to advance, false to go back
+     * @param eventTime Uptime of the input event, as given by KeyEvent or MotionEvent
+     */
+    void post(boolean forward, long eventTime) {
+        if (size == steps.length) {
+            grow();
+        }
+        int tail = (head + size) & (steps.length - 1);
+        steps[tail] = forward;
+        eventTimes[tail] = eventTime;
+        size++;
+        if (!frameScheduled) {
+            frameScheduled = true;
+            choreographer.postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Drop all pending steps and the scheduled frame.
+     */
+    void cancel() {
+        if (frameScheduled) {
+            choreographer.removeFrameCallback(this);
+            frameScheduled = false;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        frameScheduled = false;
+        if (size == 0) {
+            return;
+        }
+        while (size > 0) {
+            boolean forward = steps[head];
+            long eventTime = eventTimes[head];
+            head = (head + 1) & (steps.length - 1);
+            size--;
+            navigator.onStep(forward, eventTime);
+        }
+        head = 0;
+        navigator.onStepsApplied();
+    }
+
+    /**
+     * Double the ring buffer rather than drop steps, keeping their order.
+     */
+    private void grow() {
+        boolean[] largerSteps = new boolean[steps.length << 1];
+        long[] largerEventTimes = new long[steps.length << 1];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) & (steps.length - 1);
+            largerSteps[i] = steps[index];
+            largerEventTimes[i] = eventTimes[index];
+        }
+        steps = largerSteps;
+        eventTimes = largerEventTimes;
+        head = 0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.openrosary.app;
+
+import android.app.Application;
+import android.content.pm.ApplicationInfo;
+
+import com.openrosary.core.RosaryLog;
+
+/**
+ * Application entry point. Wires the Android-backed services into the rosary core.
+ */
+public class OpenRosaryApplication extends Application {
+    private static boolean debuggable;
+
+    /**
+     * Check whether this is a debuggable build, for debug-only tooling.
+     * @return True in debuggable builds
+     */
+    public static boolean isDebuggable() {
+        return debuggable;
+    }
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        // Debug messages only in debuggable builds, so release navigation builds no log strings
+        debuggable = (getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0;
+        RosaryLog.setSink(AndroidLogSink.INSTANCE, debuggable ? RosaryLog.DEBUG : RosaryLog.WARN);
+        // Settings are read in the background, ready before the first activity applies its theme
+        AppSettings.get(this);
+        // Statistics are loaded in the background so the statistics screen can show them at once
+        PrayerHistory.get(this).preload();
+    }
+}
@@ -0,0 +1,341 @@
+package com.openrosary.app;
+
+import android.content.res.Resources;
+import android.util.Log;
+
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerStructure;
+import com.openrosary.core.PrayerText;
+
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of every prayer text, mystery title, mystery description
+ * and localized mystery-type name for one language.
+ *
+ * A catalog is resolved from resources once per language and then only read,
+ * so the navigation path never calls into Resources or copies arrays.
+ * Arrays handed out by the getters are shared and must not be modified.
+ */
+public final class PrayerCatalog implements PrayerText {
+    private static final String TAG = "PrayerCatalog";
+
+    private static final int MYSTERY_SET_COUNT = MysteryType.values().length;
+
+    private static final String[] EMPTY = new String[0];
+
+    // Prayer text resource for each prayer type, indexed by PrayerStructure.PRAYER_* (0 = no fixed text)
+    private static final int[] PRAYER_TEXT_RESOURCE_IDS = {
+        R.string.prayer_sign_of_cross,
+        R.string.prayer_apostles_creed,
+        R.string.prayer_our_father,
+        R.string.prayer_hail_mary,
+        R.string.prayer_hail_mary_faith,
+        R.string.prayer_hail_mary_hope,
+        R.string.prayer_hail_mary_charity,
+        R.string.prayer_glory_be,
+        R.string.prayer_fatima,
+        0, // Mystery announcement is built from the mystery titles
+        R.string.prayer_hail_holy_queen,
+        R.string.prayer_rosary
+    };
+
+    // Resource IDs for prayer titles, indexed by prayer type
+    private static final int[] PRAYER_TITLE_RESOURCE_IDS = {
+        R.string.title_sign_of_cross,
+        R.string.title_apostles_creed,
+        R.string.title_our_father,
+        R.string.title_hail_mary_decade, // Requires special handling for count
+        R.string.title_hail_mary_faith,
+        R.string.title_hail_mary_hope,
+        R.string.title_hail_mary_charity,
+        R.string.title_glory_be,
+        R.string.title_fatima_prayer,
+        R.string.mystery_label, // Requires special handling for count
+        R.string.title_hail_holy_queen,
+        R.string.title_rosary_prayer
+    };
+
+    // Shown when a prayer resource is missing, indexed by prayer type
+    private static final String[] MISSING_PRAYER_TEXT = {
+        "Error: Sign of Cross missing.",
+        "Error: Creed missing.",
+        "Error: Our Father missing.",
+        "Error: Hail Mary missing.",
+        null, // The intro Hail Marys fall back to the standard Hail Mary
+        null,
+        null,
+        "Error: Glory Be missing.",
+        "Error: Fatima Prayer missing.",
+        "",
+        "Error: Hail Holy Queen missing.",
+        "Error: Rosary Prayer missing."
+    };
+
+    // Used before any resources are available
+    private static final String[] BASIC_PRAYER_TEXT = {
+        "In the name of the Father...",
+        "I believe in God...",
+        "Our Father...",
+        "Hail Mary...",
+        "Hail Mary...",
+        "Hail Mary...",
+        "Hail Mary...",
+        "Glory be...",
+        "O my Jesus...",
+        "",
+        "Hail, Holy Queen...",
+        "Let us pray..."
+    };
+
+    // Mystery resources, indexed by MysteryType ordinal
+    private static final int[] MYSTERY_TITLE_RESOURCE_IDS = {
+        R.array.joyful_mysteries_titles,
+        R.array.luminous_mysteries_titles,
+        R.array.sorrowful_mysteries_titles,
+        R.array.glorious_mysteries_titles
+    };
+
+    private static final int[] MYSTERY_DESCRIPTION_RESOURCE_IDS = {
+        R.array.joyful_mysteries_descriptions,
+        R.array.luminous_mysteries_descriptions,
+        R.array.sorrowful_mysteries_descriptions,
+        R.array.glorious_mysteries_descriptions
+    };
+
+    private static final int[] MYSTERY_TYPE_NAME_RESOURCE_IDS = {
+        R.string.mystery_type_joyful,
+        R.string.mystery_type_luminous,
+        R.string.mystery_type_sorrowful,
+        R.string.mystery_type_glorious
+    };
+
+    private static final String BASIC_MYSTERY_ANNOUNCEMENT_FORMAT = "%2$s Mystery #%1$d: %3$s";
+
+    private static final PrayerCatalog BASIC = new PrayerCatalog(
+            "", BASIC_PRAYER_TEXT,
+            new String[][] {EMPTY, EMPTY, EMPTY, EMPTY},
+            new String[][] {EMPTY, EMPTY, EMPTY, EMPTY},
+            new String[] {"Joyful", "Luminous", "Sorrowful", "Glorious"},
+            basicLabels(), BASIC_MYSTERY_ANNOUNCEMENT_FORMAT);
+
+    private final String languageCode;
+    private final String[] prayers;
+    private final String[][] mysteryTitles;
+    private final String[][] mysteryDescriptions;
+    private final String[] mysteryTypeNames;
+    private final String[] labels; // Prayer label for each position 0-80 (0 repeats position 1)
+    private final String mysteryAnnouncementFormat;
+
+    private PrayerCatalog(String languageCode, String[] prayers, String[][] mysteryTitles,
+                          String[][] mysteryDescriptions, String[] mysteryTypeNames, String[] labels,
+                          String mysteryAnnouncementFormat) {
+        this.languageCode = languageCode;
+        this.prayers = prayers;
+        this.mysteryTitles = mysteryTitles;
+        this.mysteryDescriptions = mysteryDescriptions;
+        this.mysteryTypeNames = mysteryTypeNames;
+        this.labels = labels;
+        this.mysteryAnnouncementFormat = mysteryAnnouncementFormat;
+    }
+
+    /**
+     * Gets the catalog used before any resources are available.
+     * @return A catalog of short English placeholders
+     */
+    public static PrayerCatalog basic() {
+        return BASIC;
+    }
+
+    /**
+     * Resolve every prayer and mystery string for one language.
+     * @param res Resources already configured for the language
+     * @param languageCode The language code the resources are configured for ("en" or "in")
+     * @return The resolved catalog
+     */
+    public static PrayerCatalog load(Resources res, String languageCode) {
+        String[] prayers = new String[PRAYER_TEXT_RESOURCE_IDS.length];
+        for (int type = 0; type < prayers.length; type++) {
+            prayers[type] = loadPrayer(res, type);
+        }
+        // The intro Hail Marys use the standard Hail Mary if their own text is missing
+        for (int type = PrayerStructure.PRAYER_HAIL_MARY_FAITH; type <= PrayerStructure.PRAYER_HAIL_MARY_CHARITY; type++) {
+            if (prayers[type] == null) {
+                Log.w(TAG, "Specialized Hail Mary resource not found (type " + type + "), using standard.");
+                prayers[type] = prayers[PrayerStructure.PRAYER_HAIL_MARY];
+            }
+        }
+
+        String[][] titles = new String[MYSTERY_SET_COUNT][];
+        String[][] descriptions = new String[MYSTERY_SET_COUNT][];
+        String[] typeNames = new String[MYSTERY_SET_COUNT];
+        for (int set = 0; set < MYSTERY_SET_COUNT; set++) {
+            titles[set] = loadArray(res, MYSTERY_TITLE_RESOURCE_IDS[set]);
+            descriptions[set] = loadArray(res, MYSTERY_DESCRIPTION_RESOURCE_IDS[set]);
+            typeNames[set] = loadMysteryTypeName(res, set);
+        }
+
+        String announcementFormat;
+        try {
+            announcementFormat = res.getString(R.string.mystery_announcement_format);
+        } catch (Resources.NotFoundException e) {
+            Log.w(TAG, "Mystery announcement format not found, using default.");
+            announcementFormat = BASIC_MYSTERY_ANNOUNCEMENT_FORMAT;
+        }
+
+        Log.d(TAG, "Prayer catalog loaded for language: " + languageCode);
+        return new PrayerCatalog(languageCode, prayers, titles, descriptions, typeNames, loadLabels(res),
+                                 announcementFormat);
+    }
+
+    /**
+     * Materialize the label of every position from the prayer sequence.
+     * Each distinct label is resolved or formatted once and shared by every
+     * position that shows it, e.g. one "Our Father" for all six Our Fathers.
+     * @param res Resources already configured for the language
+     * @return The label table, indexed by position
+     */
+    private static String[] loadLabels(Resources res) {
+        String[] titles = new String[PRAYER_TEXT_RESOURCE_IDS.length];
+        String[] hailMaryTitles = new String[PrayerStructure.HAIL_MARYS_PER_DECADE + 1];
+        String[] mysteryLabels = new String[PrayerStructure.DECADE_COUNT + 1];
+        try {
+            for (int type = 0; type < titles.length; type++) {
+                if (type != PrayerStructure.PRAYER_HAIL_MARY && type != PrayerStructure.PRAYER_MYSTERY_ANNOUNCEMENT) {
+                    titles[type] = res.getString(PRAYER_TITLE_RESOURCE_IDS[type]);
+                }
+            }
+            for (int hailMary = 1; hailMary < hailMaryTitles.length; hailMary++) {
+                hailMaryTitles[hailMary] = res.getString(R.string.title_hail_mary_decade, hailMary);
+            }
+            String mysteryLabelFormat = res.getString(R.string.mystery_label);
+            for (int decade = 1; decade < mysteryLabels.length; decade++) {
+                mysteryLabels[decade] = String.format(mysteryLabelFormat, decade);
+            }
+        } catch (Resources.NotFoundException e) {
+            Log.e(TAG, "Resource not found while building prayer labels: " + e.getMessage());
+            return basicLabels();
+        }
+
+        String[] labels = new String[PrayerStructure.TOTAL_PRAYERS + 1];
+        for (int position = 1; position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+            int type = PrayerStructure.getPrayerTypeForCount(position);
+            if (type == PrayerStructure.PRAYER_HAIL_MARY) {
+                labels[position] = hailMaryTitles[PrayerStructure.getHailMaryNumber(position)];
+            } else if (type == PrayerStructure.PRAYER_MYSTERY_ANNOUNCEMENT) {
+                labels[position] = mysteryLabels[PrayerStructure.getDecadeForCount(position)];
+            } else {
+                labels[position] = titles[type];
+            }
+        }
+        labels[0] = labels[1];
+        return labels;
+    }
+
+    private static String[] basicLabels() {
+        String[] labels = new String[PrayerStructure.TOTAL_PRAYERS + 1];
+        Arrays.fill(labels, "Prayer");
+        return labels;
+    }
+
+    private static String loadPrayer(Resources res, int type) {
+        int resId = PRAYER_TEXT_RESOURCE_IDS[type];
+        if (resId == 0) {
+            return "";
+        }
+        try {
+            return res.getString(resId);
+        } catch (Resources.NotFoundException e) {
+            Log.e(TAG, "Resource not found for prayer type: " + type);
+            return MISSING_PRAYER_TEXT[type];
+        }
+    }
+
+    private static String[] loadArray(Resources res, int arrayId) {
+        try {
+            return res.getStringArray(arrayId);
+        } catch (Resources.NotFoundException e) {
+            Log.w(TAG, "Resource array not found: " + arrayId);
+            return EMPTY;
+        }
+    }
+
+    private static String loadMysteryTypeName(Resources res, int set) {
+        try {
+            return res.getString(MYSTERY_TYPE_NAME_RESOURCE_IDS[set]);
+        } catch (Resources.NotFoundException e) {
+            Log.w(TAG, "Localized string not found for mystery type: " + MysteryType.values()[set].key());
+            return BASIC.mysteryTypeNames[set];
+        }
+    }
+
+    /**
+     * Gets the language code this catalog was resolved for.
+     * @return The language code, or an empty string for the basic catalog
+     */
+    public String getLanguageCode() {
+        return languageCode;
+    }
+
+    /**
+     * Gets the text of a prayer.
+     * @param prayerType One of the PrayerStructure.PRAYER_* constants
+     * @return The prayer text (empty for the mystery announcement)
+     */
+    @Override
+    public String getPrayer(int prayerType) {
+        return prayers[prayerType];
+    }
+
+    /**
+     * Gets the prayer label shown for a position.
+     * @param position The position in the rosary (1-80); out-of-range values are clamped
+     * @return The label, e.g. "Hail Mary (3/10)"
+     */
+    @Override
+    public String getLabel(int position) {
+        return labels[Math.max(0, Math.min(PrayerStructure.TOTAL_PRAYERS, position))];
+    }
+
+    /**
+     * Gets the titles of a mystery set.
+     * @param mysteryType The mystery set
+     * @return The shared array of titles
+     */
+    @Override
+    public String[] getMysteryTitles(MysteryType mysteryType) {
+        return mysteryTitles[mysteryType.ordinal()];
+    }
+
+    /**
+     * Gets the descriptions of a mystery set.
+     * @param mysteryType The mystery set
+     * @return The shared array of descriptions
+     */
+    @Override
+    public String[] getMysteryDescriptions(MysteryType mysteryType) {
+        return mysteryDescriptions[mysteryType.ordinal()];
+    }
+
+    /**
+     * Gets the localized name of a mystery set (e.g. "Joyful").
+     * @param mysteryType The mystery set
+     * @return The localized name
+     */
+    @Override
+    public String getMysteryTypeName(MysteryType mysteryType) {
+        return mysteryTypeNames[mysteryType.ordinal()];
+    }
+
+    /**
+     * Build the announcement for a mystery from the localized format string.
+     * @param decade The decade number (1-5)
+     * @param mysteryTypeName The localized name of the mystery set
+     * @param mysteryTitle The title of the mystery
+     * @return The announcement, e.g. "Joyful Mystery #1: The Annunciation"
+     */
+    @Override
+    public String formatMysteryAnnouncement(int decade, String mysteryTypeName, String mysteryTitle) {
+        return String.format(mysteryAnnouncementFormat, decade, mysteryTypeName, mysteryTitle);
+    }
+}
@@ -0,0 +1,230 @@
+package com.openrosary.app;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.util.Log;
+
+import com.openrosary.core.HistoryStore;
+import com.openrosary.core.PrayerStats;
+import com.openrosary.core.SessionRecord;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The app's prayer history: every rosary prayed, completed or abandoned,
+ * and the statistics kept over it.
+ *
+ * One HistoryStore per process, opened lazily and only ever touched on its
+ * own background thread, so recording a session never blocks the UI and
+ * the store needs no locking.
+ *
+ * The PrayerStats are updated as each session is recorded and saved beside
+ * the history. A copy is published for the UI, so the statistics screen
+ * shows them straight away without reading the history. Once per process,
+ * some time after start, they are rebuilt from the raw history in the
+ * background and replaced if they disagree.
+ */
+final class PrayerHistory {
+    private static final String TAG = "PrayerHistory";
+    static final String DIRECTORY_NAME = "history";
+    private static final String STATS_FILE_NAME = "stats.bin";
+    private static final long STATS_CHECK_DELAY_MS = 30000; // Out of the way of startup
+
+    /**
+     * Told on the main thread when the statistics change or cannot be loaded.
+     */
+    interface StatsListener {
+        void onStatsChanged(PrayerStats stats);
+
+        /**
+         * The history could not be opened, so there are no statistics until preload is tried again.
+         */
+        void onStatsUnavailable();
+    }
+
+    private static PrayerHistory instance;
+
+    private final File directory;
+    private final Handler worker;
+    private final Handler main = new Handler(Looper.getMainLooper());
+    private final List<StatsListener> listeners = new ArrayList<>(); // Main thread only
+    private volatile PrayerStats publishedStats;                     // Never modified once published
+
+    // Worker thread only
+    private ZoneId zone;
+    private HistoryStore store;  // Null until first used or after an error
+    private PrayerStats stats;
+    private boolean statsCheckScheduled;
+
+    private PrayerHistory(File directory) {
+        this.directory = directory;
+        HandlerThread thread = new HandlerThread(TAG);
+        thread.start();
+        worker = new Handler(thread.getLooper());
+    }
+
+    /**
+     * Gets the history for this process.
+     * @param context Any context
+     * @return The history
+     */
+    static synchronized PrayerHistory get(Context context) {
+        if (instance == null) {
+            instance = new PrayerHistory(new File(context.getApplicationContext().getFilesDir(), DIRECTORY_NAME));
+        }
+        return instance;
+    }
+
+    /**
+     * Open the history and load the statistics in the background, so they are ready when asked for.
+     * Does nothing if they already are; call again to retry after the listeners were told they are unavailable.
+     */
+    void preload() {
+        worker.post(() -> {
+            try {
+                openStore();
+            } catch (IOException e) {
+                Log.e(TAG, "Error opening history: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+                closeStore();
+                if (publishedStats == null) {
+                    main.post(() -> {
+                        for (int i = listeners.size() - 1; i >= 0; i--) {
+                            listeners.get(i).onStatsUnavailable();
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    /**
+     * Add a finished or abandoned session to the history, in the background.
+     * @param record The session
+     */
+    void record(SessionRecord record) {
+        worker.post(() -> {
+            try {
+                openStore().append(record);
+                stats.add(record, zone);
+                saveStats();
+                publishStats();
+            } catch (IOException e) {
+                Log.e(TAG, "Error recording session: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+                closeStore(); // Reopen and recover on the next use
+            }
+        });
+    }
+
+    /**
+     * Gets the latest statistics.
+     * @return The statistics, or null while they are still being loaded or if they could not be loaded
+     */
+    PrayerStats getStats() {
+        return publishedStats;
+    }
+
+    /**
+     * Be told when the statistics change. Main thread only.
+     * @param listener The listener
+     */
+    void addStatsListener(StatsListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stop being told when the statistics change. Main thread only.
+     * @param listener The listener
+     */
+    void removeStatsListener(StatsListener listener) {
+        listeners.remove(listener);
+    }
+
+    private HistoryStore openStore() throws IOException {
+        if (store == null) {
+            zone = ZoneId.systemDefault();
+            store = HistoryStore.open(directory, zone);
+            try {
+                loadStats();
+            } catch (IOException e) {
+                closeStore();
+                throw e;
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Load the saved statistics and add any sessions recorded after they were saved.
+     */
+    private void loadStats() throws IOException {
+        File file = new File(directory, STATS_FILE_NAME);
+        stats = PrayerStats.load(file);
+        if (stats == null || stats.getRecordsCounted() > store.size()) {
+            // Missing, damaged, or counting sessions the history lost
+            stats = PrayerStats.rebuild(store, zone);
+            saveStats();
+        } else if (stats.getRecordsCounted() < store.size()) {
+            stats.catchUp(store, zone);
+            saveStats();
+        }
+        publishStats();
+        if (!statsCheckScheduled) {
+            statsCheckScheduled = true;
+            worker.postDelayed(this::checkStats, STATS_CHECK_DELAY_MS);
+        }
+    }
+
+    /**
+     * Rebuild the statistics from the raw history and keep the rebuilt ones if they differ.
+     */
+    private void checkStats() {
+        try {
+            PrayerStats rebuilt = PrayerStats.rebuild(openStore(), zone);
+            if (!rebuilt.equals(stats)) {
+                Log.w(TAG, "Prayer statistics did not match the history; replacing them");
+                stats = rebuilt;
+                saveStats();
+                publishStats();
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Error checking prayer statistics: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+    }
+
+    private void saveStats() {
+        try {
+            stats.save(new File(directory, STATS_FILE_NAME));
+        } catch (IOException e) {
+            // The history is intact; the sessions not in the saved copy are added on the next load
+            Log.e(TAG, "Error saving prayer statistics: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+    }
+
+    private void publishStats() {
+        PrayerStats snapshot = stats.copy();
+        publishedStats = snapshot;
+        main.post(() -> {
+            for (int i = listeners.size() - 1; i >= 0; i--) {
+                listeners.get(i).onStatsChanged(snapshot);
+            }
+        });
+    }
+
+    private void closeStore() {
+        if (store == null) {
+            return;
+        }
+        try {
+            store.close();
+        } catch (IOException e) {
+            Log.e(TAG, "Error closing history: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+        store = null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.openrosary.app;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ScrollView;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.openrosary.core.PrayerStructure;
+import com.openrosary.core.RosaryState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pages of the prayer pager, one per position in the rosary (page 0 is
+ * position 1).
+ *
+ * Only a handful of page views exist at once: the pager recycles them as
+ * the cursor moves, and binds the neighbouring pages ahead of the swipe so
+ * they slide in already laid out. Text measured off the UI thread by the
+ * PrayerTextCache is used when it is ready.
+ */
+final class PrayerPagerAdapter extends RecyclerView.Adapter<PrayerPagerAdapter.PageHolder> {
+    private final RosaryState rosaryState;
+    private final PrayerTextCache prayerTextCache;
+    private final List<PageHolder> attachedPages = new ArrayList<>();
+
+    /**
+     * Views of one prayer page
+     */
+    static final class PageHolder extends RecyclerView.ViewHolder {
+        final ScrollView scrollView;
+        final TextView prayerTextView;
+
+        PageHolder(View itemView) {
+            super(itemView);
+            scrollView = (ScrollView) itemView;
+            prayerTextView = itemView.findViewById(R.id.prayerTextView);
+        }
+    }
+
+    /**
+     * @param rosaryState The session whose prayers are shown
+     * @param prayerTextCache Measured prayer text, or null to bind plain text
+     */
+    PrayerPagerAdapter(RosaryState rosaryState, PrayerTextCache prayerTextCache) {
+        this.rosaryState = rosaryState;
+        this.prayerTextCache = prayerTextCache;
+        setHasStableIds(true);
+    }
+
+    /**
+     * Gets the page showing a position in the rosary.
+     * @param position The position (1-80)
+     * @return The page index
+     */
+    static int pageForPosition(int position) {
+        return Math.max(1, Math.min(PrayerStructure.TOTAL_PRAYERS, position)) - 1;
+    }
+
+    /**
+     * Gets the position in the rosary a page shows.
+     * @param page The page index
+     * @return The position (1-80)
+     */
+    static int positionForPage(int page) {
+        return page + 1;
+    }
+
+    @Override
+    public int getItemCount() {
+        return PrayerStructure.TOTAL_PRAYERS;
+    }
+
+    @Override
+    public long getItemId(int page) {
+        return page;
+    }
+
+    @NonNull
+    @Override
+    public PageHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View page = LayoutInflater.from(parent.getContext()).inflate(R.layout.item_prayer_page, parent, false);
+        return new PageHolder(page);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull PageHolder holder, int page) {
+        String text = rosaryState.getPrayerTextByTotalCount(positionForPage(page));
+        if (holder.prayerTextView != null) {
+            if (prayerTextCache != null) {
+                prayerTextCache.bind(holder.prayerTextView, text);
+            } else {
+                holder.prayerTextView.setText(text);
+            }
+        }
+        // A recycled page may still be scrolled down from the prayer it showed before
+        holder.scrollView.scrollTo(0, 0);
+    }
+
+    @Override
+    public void onViewAttachedToWindow(@NonNull PageHolder holder) {
+        attachedPages.add(holder);
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(@NonNull PageHolder holder) {
+        attachedPages.remove(holder);
+    }
+
+    /**
+     * Scroll every page except the current one back to the top, so a prayer
+     * always starts at its beginning when it is swiped to again.
+     * @param currentPage The page on screen
+     */
+    void resetScrollExcept(int currentPage) {
+        for (int i = 0; i < attachedPages.size(); i++) {
+            PageHolder holder = attachedPages.get(i);
+            if (holder.getBindingAdapterPosition() != currentPage) {
+                holder.scrollView.scrollTo(0, 0);
+            }
+        }
+    }
+}
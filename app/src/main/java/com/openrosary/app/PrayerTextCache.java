@@ -0,0 +1,150 @@
+package com.openrosary.app;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.util.Log;
+import android.widget.TextView;
+
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.core.widget.TextViewCompat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Measures the prayers around the cursor ahead of time, off the UI thread.
+ *
+ * The pager keeps the pages next to the current one bound, so after every
+ * transition the prayers one page further out, which a swipe in either
+ * direction will bind next, are handed to a background thread. It measures
+ * them with PrecomputedText using the prayer pages' text size, font scale
+ * and typeface. When a page is bound, the text is a cache hit and the UI
+ * thread skips the measuring that long prayers like the Creed or the Hail
+ * Holy Queen would otherwise cost. All prayer pages share one text style,
+ * so one set of params fits them all. A prayer already being measured is
+ * not queued again, however fast the swipes.
+ *
+ * Measurements are only valid for the text settings they were made with, so
+ * the cache is cleared whenever the activity is recreated for a new
+ * configuration. PrecomputedText does not depend on the view width; line
+ * breaking still happens at layout. Call from the main thread only.
+ */
+final class PrayerTextCache {
+    private static final String TAG = "PrayerTextCache";
+    private static final int CAPACITY = 4; // The two prayers being prefetched, plus two from the last transition
+
+    private final HandlerThread thread;
+    private final Handler worker;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private final Map<String, PrecomputedTextCompat> cache = new HashMap<>();
+    private final Set<String> measuring = new HashSet<>(); // Queued or being measured, and still wanted
+    private PrecomputedTextCompat.Params params; // Text settings of the prayer pages, captured from the first one bound
+    private int generation;                      // Bumped on invalidate so late results are dropped
+
+    PrayerTextCache() {
+        thread = new HandlerThread(TAG);
+        thread.start();
+        worker = new Handler(thread.getLooper());
+    }
+
+    /**
+     * Show text in a prayer page, using a cached measurement if there is one.
+     * @param textView The page's prayer text view
+     * @param text The prayer text
+     */
+    void bind(TextView textView, String text) {
+        if (params == null) {
+            params = TextViewCompat.getTextMetricsParams(textView);
+        }
+        PrecomputedTextCompat precomputed = cache.get(text);
+        if (precomputed != null) {
+            try {
+                TextViewCompat.setPrecomputedText(textView, precomputed);
+                return;
+            } catch (IllegalArgumentException e) {
+                // The view's text settings changed without an invalidate; measure again from now on
+                Log.e(TAG, "Cached prayer text no longer matches the view: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+                invalidate();
+            }
+        }
+        textView.setText(text);
+    }
+
+    /**
+     * Measure the prayers the next swipe will bind, dropping older measurements.
+     * @param before The prayer that will be bound when going back, or null
+     * @param after The prayer that will be bound when going forward, or null
+     */
+    void prefetch(String before, String after) {
+        // Pages already bound keep their text, so only these two are still useful
+        Iterator<String> cached = cache.keySet().iterator();
+        while (cached.hasNext()) {
+            String text = cached.next();
+            if (!text.equals(before) && !text.equals(after)) {
+                cached.remove();
+            }
+        }
+        // Measurements still running for earlier swipes give up their slots; their results are dropped
+        measuring.retainAll(Arrays.asList(before, after));
+        request(before);
+        request(after);
+    }
+
+    /**
+     * Forget every measurement; the text settings are captured again from the
+     * next page bound. Call when a recreated activity takes the cache over.
+     */
+    void invalidate() {
+        generation++;
+        cache.clear();
+        measuring.clear();
+        worker.removeCallbacksAndMessages(null);
+        params = null;
+    }
+
+    /**
+     * Stop the background thread. Nothing is measured afterwards.
+     */
+    void release() {
+        generation++;
+        cache.clear();
+        measuring.clear();
+        worker.removeCallbacksAndMessages(null);
+        mainHandler.removeCallbacksAndMessages(null);
+        thread.quitSafely();
+    }
+
+    private void request(String text) {
+        if (params == null || text == null || text.isEmpty() || cache.containsKey(text) || measuring.contains(text)
+                || cache.size() + measuring.size() >= CAPACITY) {
+            return;
+        }
+        measuring.add(text);
+        final int requestGeneration = generation;
+        final PrecomputedTextCompat.Params requestParams = params;
+        worker.post(() -> {
+            PrecomputedTextCompat measured = null;
+            try {
+                measured = PrecomputedTextCompat.create(text, requestParams);
+            } catch (Exception e) {
+                Log.e(TAG, "Error measuring prayer text: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+            }
+            final PrecomputedTextCompat precomputed = measured;
+            mainHandler.post(() -> {
+                // Invalidated meanwhile, or no longer wanted by the latest prefetch
+                if (requestGeneration != generation || !measuring.remove(text)) {
+                    return;
+                }
+                if (precomputed != null && cache.size() < CAPACITY) {
+                    cache.put(text, precomputed);
+                }
+            });
+        });
+    }
+}
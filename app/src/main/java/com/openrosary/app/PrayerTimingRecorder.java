@@ -0,0 +1,264 @@
+package com.openrosary.app;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.util.Log;
+
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerStructure;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Times how long each prayer of the rosary in progress stays on screen.
+ *
+ * Every step writes the position reached and the input's uptime timestamp
+ * into a preallocated ring of primitives, which is all the navigation path
+ * pays: no allocation, no lock and no I/O. The ring is drained on a
+ * background thread when a decade ends, when the app goes to the background
+ * and whenever half of it is waiting. The drain turns timestamps into time
+ * spent per position and saves those totals, so a rosary resumed after
+ * process death keeps the timing of the prayers already said.
+ *
+ * Time in the background is set aside rather than charged to the prayer on
+ * screen. The ring has one writer, the main thread, and one reader, the
+ * background thread; the published head and tail are enough to keep them
+ * apart.
+ */
+public final class PrayerTimingRecorder {
+    private static final String TAG = "PrayerTimingRecorder";
+    static final String FILE_NAME = "session.timing";
+
+    private static final int CAPACITY = 256;  // Steps; a power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final int FLUSH_THRESHOLD = CAPACITY / 2;
+    private static final int NOT_PRAYING = 0;  // Recorded while in the background; position 0 is never a prayer
+
+    private static final int MAGIC = 0x52535431;  // "RST1"
+    private static final int POSITIONS = PrayerStructure.TOTAL_PRAYERS + 1;
+    private static final int FILE_SIZE = 4 + 4 + 8 + POSITIONS * 4 + 4;
+
+    /**
+     * Receives the timing of a finished session, on the recorder's thread.
+     */
+    public interface OnFinished {
+        /**
+         * @param startTimeMillis Wall-clock start of the session, earlier than this run if it was resumed
+         * @param dwellMillis Time spent on each position, indexed by position (0 is unused)
+         */
+        void onFinished(long startTimeMillis, long[] dwellMillis);
+    }
+
+    private final File file;
+    private final HandlerThread thread;
+    private final Handler worker;
+    private final Runnable flushTask = this::flush;
+
+    // The ring: slots written by the main thread, up to head, and read by the worker, up to tail
+    private final long[] times = new long[CAPACITY];
+    private final byte[] positions = new byte[CAPACITY];
+    private volatile int head;
+    private volatile int tail;
+    private int sinceFlushRequest; // Main thread only
+    private volatile int dropped;  // Steps lost to a full ring; written by the main thread only
+
+    // Worker thread only
+    private final long[] dwellMillis = new long[POSITIONS];
+    private int mysteryOrdinal;
+    private long startTimeMillis;
+    private int currentPosition = -1;
+    private long currentSince;
+    private int reportedDropped;
+    private final ByteBuffer record = ByteBuffer.allocate(FILE_SIZE);
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * @param file Where the timing of the rosary in progress is kept
+     */
+    public PrayerTimingRecorder(File file) {
+        this.file = file;
+        thread = new HandlerThread(TAG);
+        thread.start();
+        worker = new Handler(thread.getLooper());
+    }
+
+    /**
+     * Start timing a rosary.
+     * @param mysteryType The mysteries being prayed
+     * @param position The prayer on screen
+     * @param resumed True if the rosary was left earlier and is being picked up again; its saved timing is kept
+     * @param uptimeMillis When the prayer appeared
+     */
+    public void start(MysteryType mysteryType, int position, boolean resumed, long uptimeMillis) {
+        int ordinal = mysteryType.ordinal();
+        long now = System.currentTimeMillis();
+        worker.post(() -> {
+            mysteryOrdinal = ordinal;
+            if (!resumed || !load(ordinal)) {
+                startTimeMillis = now;
+            }
+        });
+        onStep(position, uptimeMillis, false);
+    }
+
+    /**
+     * Note a step. Called on the main thread for every step; costs two array writes.
+     * @param position The prayer now on screen (1-80)
+     * @param uptimeMillis When the step was asked for
+     * @param decadeEnd True if the step left a decade, a natural point to save the timing
+     */
+    public void onStep(int position, long uptimeMillis, boolean decadeEnd) {
+        int slot = head;
+        if (slot - tail == CAPACITY) {
+            dropped = dropped + 1; // The worker is far behind; keep what is queued rather than overwrite it
+            return;
+        }
+        times[slot & MASK] = uptimeMillis;
+        positions[slot & MASK] = (byte) position;
+        head = slot + 1;
+        if (decadeEnd || ++sinceFlushRequest >= FLUSH_THRESHOLD) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * Stop the clock while the app is in the background, and save the timing.
+     * @param uptimeMillis When the app left the foreground
+     */
+    public void pause(long uptimeMillis) {
+        onStep(NOT_PRAYING, uptimeMillis, true);
+    }
+
+    /**
+     * Restart the clock on the prayer on screen.
+     * @param position The prayer on screen
+     * @param uptimeMillis When the app came back to the foreground
+     */
+    public void resume(int position, long uptimeMillis) {
+        onStep(position, uptimeMillis, false);
+    }
+
+    /**
+     * Stop timing, hand the totals over and forget the saved timing.
+     * @param uptimeMillis When the session ended
+     * @param onFinished Receives the totals, or null to discard them
+     */
+    public void finish(long uptimeMillis, OnFinished onFinished) {
+        onStep(NOT_PRAYING, uptimeMillis, false);
+        worker.post(() -> {
+            drain();
+            if (onFinished != null) {
+                onFinished.onFinished(startTimeMillis, dwellMillis.clone());
+            }
+            if (file.exists() && !file.delete()) {
+                Log.e(TAG, "Could not delete " + file.getName());
+            }
+        });
+        thread.quitSafely();
+    }
+
+    private void requestFlush() {
+        sinceFlushRequest = 0;
+        worker.post(flushTask);
+    }
+
+    private void flush() {
+        if (drain()) {
+            save();
+        }
+    }
+
+    /**
+     * Charge the time between queued steps to the positions they left.
+     * @return True if anything was queued
+     */
+    private boolean drain() {
+        int end = head;
+        int slot = tail;
+        if (slot == end) {
+            return false;
+        }
+        for (; slot != end; slot++) {
+            long time = times[slot & MASK];
+            if (currentPosition >= 0) {
+                dwellMillis[currentPosition] += Math.max(0, time - currentSince);
+            }
+            currentPosition = positions[slot & MASK];
+            currentSince = time;
+        }
+        tail = end;
+        int lost = dropped;
+        if (lost != reportedDropped) {
+            Log.w(TAG, "Prayer timing dropped " + (lost - reportedDropped) + " steps");
+            reportedDropped = lost;
+        }
+        return true;
+    }
+
+    /**
+     * Save the totals. The new file is synced before it replaces the old one,
+     * so a crash leaves one or the other whole.
+     */
+    private void save() {
+        record.clear();
+        record.putInt(MAGIC);
+        record.putInt(mysteryOrdinal);
+        record.putLong(startTimeMillis);
+        for (long millis : dwellMillis) {
+            record.putInt((int) Math.min(Integer.MAX_VALUE, millis));
+        }
+        crc.reset();
+        crc.update(record.array(), 0, FILE_SIZE - 4);
+        record.putInt((int) crc.getValue());
+        record.flip();
+
+        File saved = new File(file.getPath() + ".tmp");
+        try {
+            try (FileOutputStream out = new FileOutputStream(saved)) {
+                out.getChannel().write(record);
+                out.getFD().sync();
+            }
+            if (!saved.renameTo(file)) {
+                throw new IOException("Could not replace " + file.getName());
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Error saving prayer timing: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+    }
+
+    /**
+     * Pick up the saved timing of the rosary being resumed.
+     * @return True if there was saved timing for these mysteries
+     */
+    private boolean load(int ordinal) {
+        if (!file.exists()) {
+            return false;
+        }
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            if (in.length() != FILE_SIZE) {
+                return false;
+            }
+            record.clear();
+            in.readFully(record.array(), 0, FILE_SIZE);
+            crc.reset();
+            crc.update(record.array(), 0, FILE_SIZE - 4);
+            if (record.getInt(0) != MAGIC || record.getInt(4) != ordinal
+                    || record.getInt(FILE_SIZE - 4) != (int) crc.getValue()) {
+                return false;
+            }
+            startTimeMillis = record.getLong(8);
+            for (int position = 0; position < POSITIONS; position++) {
+                dwellMillis[position] = record.getInt(16 + position * 4);
+            }
+            return true;
+        } catch (IOException e) {
+            Log.e(TAG, "Error reading prayer timing: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+            return false;
+        }
+    }
+}
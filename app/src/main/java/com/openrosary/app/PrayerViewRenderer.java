@@ -0,0 +1,66 @@
+package com.openrosary.app;
+
+import android.widget.TextView;
+
+import androidx.viewpager2.widget.ViewPager2;
+
+/**
+ * Applies PrayerViewStates to the prayer screen, touching only what changed.
+ *
+ * Setting a TextView's text relayouts it even when the text is the same, so
+ * each field is compared with what is already on screen first. Ten Hail Marys
+ * in a row only move the pager and the bead highlight, and the mystery title is
+ * set once per decade. The prayer text itself lives in the pager's pages.
+ * Main thread only.
+ */
+final class PrayerViewRenderer {
+    private final ViewPager2 prayerPager;
+    private final TextView prayerLabelTextView;
+    private final TextView mysteryTitleTextView;
+    private final RosaryBeadsView rosaryBeadsView;
+
+    private PrayerViewState shown; // What is on screen, or null before the first render
+
+    /**
+     * @param prayerPager Prayer pages, or null if missing from the layout
+     * @param prayerLabelTextView Prayer label, or null
+     * @param mysteryTitleTextView Mystery title, or null
+     * @param rosaryBeadsView Bead chain, or null
+     */
+    PrayerViewRenderer(ViewPager2 prayerPager, TextView prayerLabelTextView, TextView mysteryTitleTextView,
+                       RosaryBeadsView rosaryBeadsView) {
+        this.prayerPager = prayerPager;
+        this.prayerLabelTextView = prayerLabelTextView;
+        this.mysteryTitleTextView = mysteryTitleTextView;
+        this.rosaryBeadsView = rosaryBeadsView;
+    }
+
+    /**
+     * Bring the screen up to date with a view state.
+     * @param next The state to show
+     */
+    void render(PrayerViewState next) {
+        PrayerViewState previous = shown;
+        boolean full = previous == null;
+
+        if (prayerPager != null) {
+            // Already there when the user swiped to this page; slide to it otherwise
+            int page = PrayerPagerAdapter.pageForPosition(next.position);
+            if (prayerPager.getCurrentItem() != page) {
+                prayerPager.setCurrentItem(page, !full);
+            }
+        }
+        if (prayerLabelTextView != null && (full || !previous.prayerLabel.equals(next.prayerLabel))) {
+            prayerLabelTextView.setText(next.prayerLabel);
+        }
+        if (mysteryTitleTextView != null && (full || !previous.mysteryTitle.equals(next.mysteryTitle))) {
+            mysteryTitleTextView.setText(next.mysteryTitle);
+        }
+        if (rosaryBeadsView != null) {
+            // Jump straight to the bead on the first render, slide between beads after that
+            rosaryBeadsView.setPosition(next.position, !full);
+        }
+
+        shown = next;
+    }
+}
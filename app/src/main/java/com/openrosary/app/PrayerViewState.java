@@ -0,0 +1,40 @@
+package com.openrosary.app;
+
+import com.openrosary.core.PrayerHandle;
+import com.openrosary.core.RosaryState;
+
+/**
+ * What the prayer screen shows around the pager for one position in the
+ * rosary: the label and mystery title. The prayer text is bound by the
+ * pager's pages and is not part of the state.
+ *
+ * Built from the rosary cursor in one place, so every way of reaching a
+ * prayer (navigating, restoring, starting fresh) shows the same thing.
+ * Immutable; compare two states to find what changed on screen.
+ */
+final class PrayerViewState {
+    final int position;        // Cursor position, 0-80
+    final String prayerLabel;
+    final String mysteryTitle; // The decade's mystery, or the mystery set outside the decades
+
+    private PrayerViewState(int position, String prayerLabel, String mysteryTitle) {
+        this.position = position;
+        this.prayerLabel = prayerLabel != null ? prayerLabel : "";
+        this.mysteryTitle = mysteryTitle != null ? mysteryTitle : "";
+    }
+
+    /**
+     * Build the view state for the prayer under the cursor.
+     * @param state The rosary session
+     * @param generalMysteryTitle Title of the mystery set, e.g. "Joyful Mysteries", shown outside the decades
+     * @return The view state
+     */
+    static PrayerViewState of(RosaryState state, String generalMysteryTitle) {
+        PrayerHandle prayer = state.current();
+        String mysteryTitle = prayer.getMysteryTitle();
+        return new PrayerViewState(
+                prayer.position(),
+                prayer.getLabel(),
+                mysteryTitle.isEmpty() ? generalMysteryTitle : mysteryTitle);
+    }
+}
@@ -0,0 +1,404 @@
+package com.openrosary.app;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.util.AttributeSet;
+import android.view.View;
+import android.view.accessibility.AccessibilityNodeInfo;
+import android.view.animation.AnimationUtils;
+import android.view.animation.DecelerateInterpolator;
+import android.view.animation.Interpolator;
+
+import com.openrosary.core.PrayerStructure;
+import com.openrosary.core.RosaryState;
+
+/**
+ * Draws the rosary itself as the position indicator: the crucifix, the five
+ * beads of the pendant, the centrepiece and the loop of five decades, with
+ * the bead under the cursor highlighted and the beads already prayed filled in.
+ *
+ * The pendant runs in from the left and the loop is laid out as a stadium so
+ * the whole chain fits in a short strip. Every bead centre, radius and path is
+ * computed in onSizeChanged; onDraw only reads those arrays and never allocates.
+ * Moving the cursor invalidates just the beads whose look changed, and the
+ * highlight slides from the old bead to the new one over a few frames.
+ * Main thread only.
+ */
+public final class RosaryBeadsView extends View {
+    private static final long HIGHLIGHT_SLIDE_MS = 150;
+
+    // Physical beads, in the order the rosary first reaches them
+    private static final int CRUCIFIX = 0;
+    private static final int PENDANT_FIRST_LARGE = 1;  // Our Father after the Creed
+    private static final int PENDANT_FIRST_SMALL = 2;  // Faith, Hope and Charity Hail Marys
+    private static final int PENDANT_LAST_LARGE = 5;   // Glory Be, then the first mystery and Our Father
+    private static final int LOOP_FIRST = 6;           // First Hail Mary of the first decade
+    private static final int LOOP_STRIDE = 11;         // Ten small beads, then the large bead between decades
+    private static final int CENTREPIECE = 60;         // Last Glory Be and Fatima Prayer, then the closing prayers
+    private static final int BEAD_COUNT = 61;
+    private static final int LOOP_SLOTS = BEAD_COUNT - LOOP_FIRST + 1; // The loop's beads plus the centrepiece
+
+    // Bead under the cursor for each position (0-80), or -1 before the first prayer
+    private static final byte[] BEAD_FOR_POSITION = new byte[PrayerStructure.TOTAL_PRAYERS + 1];
+    // First position on each bead, which decides when it counts as prayed
+    private static final byte[] FIRST_POSITION = new byte[BEAD_COUNT];
+    // Drawn size of each bead, as a PrayerStructure.BEAD_* kind
+    private static final byte[] BEAD_KIND = new byte[BEAD_COUNT];
+
+    static {
+        BEAD_FOR_POSITION[0] = -1;
+        for (int position = PrayerStructure.TOTAL_PRAYERS; position >= 1; position--) {
+            int bead = beadFor(position);
+            BEAD_FOR_POSITION[position] = (byte) bead;
+            FIRST_POSITION[bead] = (byte) position; // Walking backwards leaves the first position
+        }
+        for (int bead = 0; bead < BEAD_COUNT; bead++) {
+            BEAD_KIND[bead] = (byte) PrayerStructure.BEAD_SMALL;
+        }
+        BEAD_KIND[CRUCIFIX] = (byte) PrayerStructure.BEAD_MEDAL;
+        BEAD_KIND[CENTREPIECE] = (byte) PrayerStructure.BEAD_MEDAL;
+        BEAD_KIND[PENDANT_FIRST_LARGE] = (byte) PrayerStructure.BEAD_LARGE;
+        BEAD_KIND[PENDANT_LAST_LARGE] = (byte) PrayerStructure.BEAD_LARGE;
+        for (int decade = 1; decade < PrayerStructure.DECADE_COUNT; decade++) {
+            BEAD_KIND[largeBeadAfter(decade)] = (byte) PrayerStructure.BEAD_LARGE;
+        }
+    }
+
+    /**
+     * Work out which physical bead a position is prayed on.
+     * The Glory Be and Fatima Prayer closing a decade share the large bead
+     * with the next decade's mystery and Our Father.
+     */
+    private static int beadFor(int position) {
+        int offset = PrayerStructure.lookup(position, PrayerStructure.FIELD_OFFSET_IN_STAGE);
+        int decade = PrayerStructure.lookup(position, PrayerStructure.FIELD_DECADE);
+        switch (PrayerStructure.lookup(position, PrayerStructure.FIELD_STAGE)) {
+            case RosaryState.STAGE_INTRO:
+                return CRUCIFIX;
+            case RosaryState.STAGE_FIRST_PRAYERS:
+                return offset == 0 ? PENDANT_FIRST_LARGE
+                        : offset <= 3 ? PENDANT_FIRST_SMALL + offset - 1
+                        : PENDANT_LAST_LARGE;
+            case RosaryState.STAGE_DECADE:
+                if (offset <= 1) {
+                    return decade == 1 ? PENDANT_LAST_LARGE : largeBeadAfter(decade - 1);
+                }
+                if (offset <= PrayerStructure.HAIL_MARYS_PER_DECADE + 1) {
+                    return LOOP_FIRST + (decade - 1) * LOOP_STRIDE + offset - 2;
+                }
+                return decade < PrayerStructure.DECADE_COUNT ? largeBeadAfter(decade) : CENTREPIECE;
+            default:
+                // Hail Holy Queen and the Rosary Prayer on the centrepiece, the last Sign of the Cross on the crucifix
+                return offset < 2 ? CENTREPIECE : CRUCIFIX;
+        }
+    }
+
+    private static int largeBeadAfter(int decade) {
+        return LOOP_FIRST + (decade - 1) * LOOP_STRIDE + PrayerStructure.HAIL_MARYS_PER_DECADE;
+    }
+
+    private final Paint chainPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint beadPaint = new Paint(Paint.ANTI_ALIAS_FLAG);       // Beads still to pray
+    private final Paint prayedPaint = new Paint(Paint.ANTI_ALIAS_FLAG);     // Beads already prayed
+    private final Paint crucifixPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint highlightPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint highlightRingPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Interpolator slideInterpolator = new DecelerateInterpolator();
+
+    // Geometry, rebuilt in onSizeChanged
+    private final float[] beadX = new float[BEAD_COUNT];
+    private final float[] beadY = new float[BEAD_COUNT];
+    private final float[] beadRadius = new float[BEAD_COUNT];
+    private final Path chainPath = new Path();
+    private final Path crucifixPath = new Path();
+    private final RectF loopBounds = new RectF();
+    private float highlightMargin; // How far the highlight ring reaches past a bead
+    private boolean laidOut;
+
+    // Cursor and highlight slide
+    private int position;
+    private int highlightFrom = -1; // Bead the highlight is sliding away from, or -1 when it is at rest
+    private long slideStart;
+    private final Rect dirty = new Rect();
+
+    public RosaryBeadsView(Context context) {
+        this(context, null);
+    }
+
+    public RosaryBeadsView(Context context, AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public RosaryBeadsView(Context context, AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        int beadColor = Color.GRAY;
+        int highlightColor = Color.WHITE;
+        TypedArray a = context.obtainStyledAttributes(attrs, R.styleable.RosaryBeadsView, defStyleAttr, 0);
+        try {
+            beadColor = a.getColor(R.styleable.RosaryBeadsView_beadColor, beadColor);
+            highlightColor = a.getColor(R.styleable.RosaryBeadsView_highlightColor, highlightColor);
+        } finally {
+            a.recycle();
+        }
+
+        chainPaint.setStyle(Paint.Style.STROKE);
+        chainPaint.setColor(beadColor);
+        chainPaint.setAlpha(90);
+        beadPaint.setStyle(Paint.Style.STROKE);
+        beadPaint.setColor(beadColor);
+        prayedPaint.setStyle(Paint.Style.FILL);
+        prayedPaint.setColor(beadColor);
+        crucifixPaint.setStyle(Paint.Style.STROKE);
+        crucifixPaint.setStrokeCap(Paint.Cap.ROUND);
+        crucifixPaint.setColor(beadColor);
+        highlightPaint.setStyle(Paint.Style.FILL);
+        highlightPaint.setColor(highlightColor);
+        highlightRingPaint.setStyle(Paint.Style.STROKE);
+        highlightRingPaint.setColor(beadColor);
+    }
+
+    /**
+     * Move the highlight to the bead for a position.
+     * @param position The cursor position (0-80)
+     * @param animate True to slide the highlight over from the bead it is on
+     */
+    public void setPosition(int position, boolean animate) {
+        position = Math.max(0, Math.min(PrayerStructure.TOTAL_PRAYERS, position));
+        if (position == this.position) {
+            return;
+        }
+        int oldPosition = this.position;
+        int oldBead = BEAD_FOR_POSITION[oldPosition];
+        int newBead = BEAD_FOR_POSITION[position];
+        this.position = position;
+
+        if (!laidOut) {
+            return; // Everything is drawn once the size is known
+        }
+        // Only the beads whose look changed, plus wherever the highlight is now
+        dirty.setEmpty();
+        if (highlightFrom >= 0) {
+            addBead(dirty, highlightFrom);
+        }
+        addBead(dirty, oldBead);
+        addBead(dirty, newBead);
+        for (int bead = 0; bead < BEAD_COUNT; bead++) {
+            if (isPrayed(bead, oldPosition) != isPrayed(bead, position)) {
+                addBead(dirty, bead);
+            }
+        }
+        boolean slide = animate && oldBead >= 0 && newBead >= 0 && oldBead != newBead;
+        highlightFrom = slide ? oldBead : -1;
+        slideStart = AnimationUtils.currentAnimationTimeMillis();
+        if (slide) {
+            // The highlight travels in a straight line, which stays inside both beads' bounds
+            postInvalidateOnAnimation(dirty.left, dirty.top, dirty.right, dirty.bottom);
+        } else {
+            invalidateDirty();
+        }
+    }
+
+    /**
+     * Gets the cursor position shown.
+     * @return The position (0-80)
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        float left = getPaddingLeft();
+        float width = w - getPaddingLeft() - getPaddingRight();
+        float height = h - getPaddingTop() - getPaddingBottom();
+        laidOut = width > 0 && height > 0;
+        if (!laidOut) {
+            return;
+        }
+        float cy = getPaddingTop() + height / 2f;
+
+        // Beads are spaced evenly, one unit apart, along the pendant and around the loop.
+        // The loop takes most of the height; the rest is room for the beads and the highlight.
+        float loopRadius = height * 0.36f;
+        float crucifixReach = height * 0.25f; // Crucifix beam beyond its centre
+        float edge = height * 0.14f;          // Room for the beads and highlight on the far side of the loop
+        float pendantSlots = PENDANT_LAST_LARGE + 1; // Crucifix to the centrepiece
+        float available = width - crucifixReach - edge;
+        // Width = pendant + loop diameter + straight run, where the loop's perimeter holds LOOP_SLOTS units
+        float unit = (available - 2f * loopRadius + (float) Math.PI * loopRadius) / (pendantSlots + LOOP_SLOTS / 2f);
+        float straight = (LOOP_SLOTS * unit - 2f * (float) Math.PI * loopRadius) / 2f;
+        if (straight < 0) {
+            // Too narrow for a stadium; shrink the loop into a circle that fits the width
+            straight = 0;
+            unit = available / (pendantSlots + LOOP_SLOTS / (float) Math.PI);
+            loopRadius = LOOP_SLOTS * unit / (2f * (float) Math.PI);
+        }
+
+        float smallRadius = Math.min(unit * 0.34f, height * 0.07f);
+        float largeRadius = smallRadius * 1.45f;
+        float medalRadius = smallRadius * 1.6f;
+        highlightMargin = smallRadius * 0.9f;
+
+        // Pendant, from the crucifix towards the centrepiece
+        float loopLeft = left + crucifixReach + pendantSlots * unit;
+        for (int bead = CRUCIFIX; bead <= PENDANT_LAST_LARGE; bead++) {
+            beadX[bead] = loopLeft - (pendantSlots - bead) * unit;
+            beadY[bead] = cy;
+        }
+
+        // Loop, clockwise from the centrepiece so the first decade runs along the top
+        float[] point = new float[2];
+        float perimeter = 2f * straight + 2f * (float) Math.PI * loopRadius;
+        for (int slot = 0; slot < LOOP_SLOTS; slot++) {
+            int bead = slot == 0 ? CENTREPIECE : LOOP_FIRST + slot - 1;
+            pointOnLoop(slot * perimeter / LOOP_SLOTS, loopLeft, cy, loopRadius, straight, point);
+            beadX[bead] = point[0];
+            beadY[bead] = point[1];
+        }
+
+        for (int bead = 0; bead < BEAD_COUNT; bead++) {
+            beadRadius[bead] = BEAD_KIND[bead] == PrayerStructure.BEAD_MEDAL ? medalRadius
+                    : BEAD_KIND[bead] == PrayerStructure.BEAD_LARGE ? largeRadius
+                    : smallRadius;
+        }
+
+        chainPath.reset();
+        chainPath.moveTo(beadX[CRUCIFIX], cy);
+        chainPath.lineTo(loopLeft, cy);
+        loopBounds.set(loopLeft, cy - loopRadius, loopLeft + 2f * loopRadius + straight, cy + loopRadius);
+        chainPath.addRoundRect(loopBounds, loopRadius, loopRadius, Path.Direction.CW);
+
+        // The crucifix hangs away from the chain, so its long beam points left
+        float crucifixX = beadX[CRUCIFIX];
+        float arm = medalRadius * 0.8f;
+        crucifixPath.reset();
+        crucifixPath.moveTo(crucifixX + arm, cy);
+        crucifixPath.lineTo(crucifixX - crucifixReach, cy);
+        crucifixPath.moveTo(crucifixX, cy - arm);
+        crucifixPath.lineTo(crucifixX, cy + arm);
+        beadRadius[CRUCIFIX] = crucifixReach;
+
+        chainPaint.setStrokeWidth(Math.max(1f, smallRadius * 0.25f));
+        beadPaint.setStrokeWidth(Math.max(1f, smallRadius * 0.3f));
+        crucifixPaint.setStrokeWidth(Math.max(1f, smallRadius * 0.6f));
+        highlightRingPaint.setStrokeWidth(Math.max(1f, smallRadius * 0.3f));
+    }
+
+    /**
+     * Find the point a distance along the loop, going clockwise from its leftmost point.
+     */
+    private static void pointOnLoop(float distance, float loopLeft, float cy, float radius, float straight, float[] out) {
+        float leftCentre = loopLeft + radius;
+        float rightCentre = leftCentre + straight;
+        float quarterArc = (float) Math.PI * radius / 2f;
+        if (distance < quarterArc) {
+            arcPoint(leftCentre, cy, radius, (float) Math.PI + distance / radius, out);
+            return;
+        }
+        distance -= quarterArc;
+        if (distance < straight) {
+            out[0] = leftCentre + distance;
+            out[1] = cy - radius;
+            return;
+        }
+        distance -= straight;
+        if (distance < 2f * quarterArc) {
+            arcPoint(rightCentre, cy, radius, (float) -Math.PI / 2f + distance / radius, out);
+            return;
+        }
+        distance -= 2f * quarterArc;
+        if (distance < straight) {
+            out[0] = rightCentre - distance;
+            out[1] = cy + radius;
+            return;
+        }
+        distance -= straight;
+        arcPoint(leftCentre, cy, radius, (float) Math.PI / 2f + distance / radius, out);
+    }
+
+    private static void arcPoint(float cx, float cy, float radius, float angle, float[] out) {
+        out[0] = cx + radius * (float) Math.cos(angle);
+        out[1] = cy + radius * (float) Math.sin(angle);
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if (!laidOut) {
+            return;
+        }
+        canvas.drawPath(chainPath, chainPaint);
+        canvas.drawPath(crucifixPath, crucifixPaint);
+        for (int bead = CRUCIFIX + 1; bead < BEAD_COUNT; bead++) {
+            canvas.drawCircle(beadX[bead], beadY[bead], beadRadius[bead],
+                    isPrayed(bead, position) ? prayedPaint : beadPaint);
+        }
+
+        int current = BEAD_FOR_POSITION[position];
+        if (current < 0) {
+            return;
+        }
+        float x = beadX[current];
+        float y = beadY[current];
+        float radius = highlightRadius(current);
+        if (highlightFrom >= 0) {
+            float elapsed = AnimationUtils.currentAnimationTimeMillis() - slideStart;
+            if (elapsed < HIGHLIGHT_SLIDE_MS) {
+                float t = slideInterpolator.getInterpolation(elapsed / HIGHLIGHT_SLIDE_MS);
+                x = beadX[highlightFrom] + (x - beadX[highlightFrom]) * t;
+                y = beadY[highlightFrom] + (y - beadY[highlightFrom]) * t;
+                radius = highlightRadius(highlightFrom) + (radius - highlightRadius(highlightFrom)) * t;
+                postInvalidateOnAnimation(dirty.left, dirty.top, dirty.right, dirty.bottom);
+            } else {
+                highlightFrom = -1;
+            }
+        }
+        canvas.drawCircle(x, y, radius, highlightPaint);
+        canvas.drawCircle(x, y, radius, highlightRingPaint);
+    }
+
+    @Override
+    public void onInitializeAccessibilityNodeInfo(AccessibilityNodeInfo info) {
+        super.onInitializeAccessibilityNodeInfo(info);
+        info.setRangeInfo(AccessibilityNodeInfo.RangeInfo.obtain(AccessibilityNodeInfo.RangeInfo.RANGE_TYPE_INT,
+                0, PrayerStructure.TOTAL_PRAYERS, position));
+    }
+
+    /**
+     * Whether a bead has been prayed past at a position: reached before and no longer under the cursor.
+     */
+    private static boolean isPrayed(int bead, int position) {
+        return FIRST_POSITION[bead] < position && BEAD_FOR_POSITION[position] != bead;
+    }
+
+    private float highlightRadius(int bead) {
+        // The crucifix's radius covers its beam; highlight just the crossing
+        float radius = bead == CRUCIFIX ? beadRadius[CENTREPIECE] : beadRadius[bead];
+        return radius + highlightMargin * 0.5f;
+    }
+
+    /**
+     * Grow a dirty rect to cover a bead and any highlight on it.
+     */
+    private void addBead(Rect rect, int bead) {
+        if (bead < 0) {
+            return;
+        }
+        float reach = beadRadius[bead] + highlightMargin;
+        rect.union((int) (beadX[bead] - reach), (int) (beadY[bead] - reach),
+                (int) Math.ceil(beadX[bead] + reach), (int) Math.ceil(beadY[bead] + reach));
+    }
+
+    private void invalidateDirty() {
+        if (!dirty.isEmpty()) {
+            postInvalidateOnAnimation(dirty.left, dirty.top, dirty.right, dirty.bottom);
+        }
+    }
+}
@@ -1,21 +1,63 @@
 package com.openrosary.app;
 
 import android.content.Context;
-import android.content.res.Resources;
 import android.util.Log;
-import android.content.SharedPreferences;
-import android.content.res.Configuration;
-import java.util.Locale;
+
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerStructure;
+import com.openrosary.core.PrayerText;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Class to retrieve rosary prayers and mysteries directly from resources
+ * Class to retrieve rosary prayers and mysteries from resources
  * to support multiple languages dynamically.
+ *
+ * Everything is served from a per-language PrayerCatalog that is resolved once
+ * and swapped in as a whole when the language changes.
  */
 public class RosaryPrayers {
     private static final String TAG = "RosaryPrayers";
 
-    // Context for accessing resources
-    private static Context context;
+    // The catalog for the current language. Replaced atomically, never modified.
+    private static volatile PrayerCatalog catalog = PrayerCatalog.basic();
+
+    // Catalogs already resolved, by language code, so switching back is free
+    private static final Map<String, PrayerCatalog> catalogsByLanguage = new HashMap<>();
+
+    // Always reads the current catalog, so a session follows language changes
+    private static final PrayerText CURRENT_TEXT = new PrayerText() {
+        @Override
+        public String getPrayer(int prayerType) {
+            return catalog.getPrayer(prayerType);
+        }
+
+        @Override
+        public String getLabel(int position) {
+            return catalog.getLabel(position);
+        }
+
+        @Override
+        public String[] getMysteryTitles(MysteryType mysteryType) {
+            return catalog.getMysteryTitles(mysteryType);
+        }
+
+        @Override
+        public String[] getMysteryDescriptions(MysteryType mysteryType) {
+            return catalog.getMysteryDescriptions(mysteryType);
+        }
+
+        @Override
+        public String getMysteryTypeName(MysteryType mysteryType) {
+            return catalog.getMysteryTypeName(mysteryType);
+        }
+
+        @Override
+        public String formatMysteryAnnouncement(int decade, String mysteryTypeName, String mysteryTitle) {
+            return catalog.formatMysteryAnnouncement(decade, mysteryTypeName, mysteryTitle);
+        }
+    };
 
     /**
      * Initialize the RosaryPrayers class with context.
@@ -25,128 +67,59 @@ public class RosaryPrayers {
     public static void initialize(Context appContext) {
         if (appContext == null) {
             Log.e(TAG, "Cannot initialize prayers: context is null");
-            // Set a flag or throw an exception? For now, log and proceed cautiously.
-            context = null;
             return;
         }
         
-        try {
-            // Get the saved language preference to ensure we use the correct locale
-            SharedPreferences settings = appContext.getSharedPreferences("SimpleRosaryPrefs", 0);
-            String languageCode = settings.getString("language", "en");
-            
-            // Create Locale using the code ("en" or "in")
-            Locale locale = new Locale(languageCode);
-            Locale.setDefault(locale);
+        // Use the app language so prayers match the rest of the UI
+        String languageCode = LocaleManager.getLanguageCode(appContext);
 
-            // Create a configuration with the correct locale
-            Configuration config = new Configuration(appContext.getResources().getConfiguration());
-            
-            // Apply locale based on Android version
-            if (android.os.Build.VERSION.SDK_INT >= android.os.Build.VERSION_CODES.N) {
-                android.os.LocaleList localeList = new android.os.LocaleList(locale);
-                android.os.LocaleList.setDefault(localeList);
-                config.setLocales(localeList);
-            } else {
-                config.setLocale(locale);
-            }
-            
-            // Create a locale-aware context
-            Context localeContext = appContext.createConfigurationContext(config);
-            
-            // Store this locale-aware context
-            context = localeContext;
-            
-            // Log current configuration details for debugging
-            java.util.Locale currentLocale = context.getResources().getConfiguration().locale;
-            Log.d(TAG, "RosaryPrayers initialized with context. Current locale: " + currentLocale.getDisplayName() + 
-                  " (Language code: " + currentLocale.getLanguage() + ")");
-            
-            // Try to load a prayer to see if it works
-            try {
-                String testPrayer = context.getResources().getString(R.string.prayer_our_father);
-                Log.d(TAG, "Test prayer loaded successfully (first 20 chars): " + 
-                      (testPrayer.length() > 20 ? testPrayer.substring(0, 20) + "..." : testPrayer));
-            } catch (Exception e) {
-                Log.e(TAG, "Error loading test prayer: " + e.getMessage());
+        if (languageCode.equals(catalog.getLanguageCode())) {
+            // Already serving this language
+            return;
+        }
+
+        synchronized (catalogsByLanguage) {
+            PrayerCatalog cached = catalogsByLanguage.get(languageCode);
+            if (cached == null) {
+                cached = PrayerCatalog.load(LocaleManager.getResources(appContext), languageCode);
+                catalogsByLanguage.put(languageCode, cached);
             }
-        } catch (Exception e) {
-            Log.e(TAG, "Error configuring locale-aware context: " + e.getMessage());
-            // Fallback to using the provided context
-            context = appContext.getApplicationContext();
+            catalog = cached;
         }
+        Log.d(TAG, "RosaryPrayers initialized. Language code: " + languageCode);
     }
 
     /**
-     * Helper to check if context is available and get Resources.
-     * @return Resources object or null if context is missing.
+     * Gets the catalog for the current language.
+     * @return The current prayer catalog
      */
-    private static Resources getResourcesSafely() {
-        if (context == null) {
-            Log.e(TAG, "Context is null in RosaryPrayers. Cannot get resources.");
-            // Attempt to recover context? Or just return null?
-            // For now, returning null, getters will handle it.
-            return null;
-        }
-        try {
-            // Get the resources with the current configuration
-            Resources res = context.getResources();
-            
-            // Log the current locale for debugging
-            java.util.Locale currentLocale = res.getConfiguration().locale;
-            Log.d(TAG, "Current locale in getResourcesSafely: " + currentLocale.getDisplayName() + 
-                  " (Language code: " + currentLocale.getLanguage() + ")");
-            
-            return res;
-        } catch (Exception e) {
-            Log.e(TAG, "Error getting resources: " + e.getMessage());
-            return null;
-        }
+    public static PrayerCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Gets the prayer text for rosary sessions.
+     * @return A view that always serves the current language
+     */
+    public static PrayerText getPrayerText() {
+        return CURRENT_TEXT;
     }
 
-    // Getters for prayers - Modified to fetch directly from resources
+    // Getters for prayers - served from the current catalog
     public static String getSignOfCross() {
-        Resources res = getResourcesSafely();
-        if (res == null) return "In the name of the Father..."; // Basic fallback
-        try {
-            return res.getString(R.string.prayer_sign_of_cross);
-        } catch (Resources.NotFoundException e) {
-            Log.e(TAG, "Resource not found: prayer_sign_of_cross");
-            return "Error: Sign of Cross missing.";
-        }
+        return catalog.getPrayer(PrayerStructure.PRAYER_SIGN_OF_CROSS);
     }
 
     public static String getApostlesCreed() {
-        Resources res = getResourcesSafely();
-        if (res == null) return "I believe in God..."; // Basic fallback
-        try {
-            return res.getString(R.string.prayer_apostles_creed);
-        } catch (Resources.NotFoundException e) {
-            Log.e(TAG, "Resource not found: prayer_apostles_creed");
-            return "Error: Creed missing.";
-        }
+        return catalog.getPrayer(PrayerStructure.PRAYER_APOSTLES_CREED);
     }
 
     public static String getOurFather() {
-        Resources res = getResourcesSafely();
-        if (res == null) return "Our Father..."; // Basic fallback
-        try {
-            return res.getString(R.string.prayer_our_father);
-        } catch (Resources.NotFoundException e) {
-            Log.e(TAG, "Resource not found: prayer_our_father");
-            return "Error: Our Father missing.";
-        }
+        return catalog.getPrayer(PrayerStructure.PRAYER_OUR_FATHER);
     }
 
     public static String getHailMary() {
-        Resources res = getResourcesSafely();
-        if (res == null) return "Hail Mary..."; // Basic fallback
-        try {
-            return res.getString(R.string.prayer_hail_mary);
-        } catch (Resources.NotFoundException e) {
-            Log.e(TAG, "Resource not found: prayer_hail_mary");
-            return "Error: Hail Mary missing.";
-        }
+        return catalog.getPrayer(PrayerStructure.PRAYER_HAIL_MARY);
     }
 
     /**
@@ -155,178 +128,73 @@ public class RosaryPrayers {
      * @return The appropriate Hail Mary prayer text
      */
     public static String getHailMaryForIntro(int position) {
-        Resources res = getResourcesSafely();
-        if (res == null) return getHailMary(); // Fallback to standard Hail Mary
-
-        int resId;
-        switch (position) {
-            case 1:
-                resId = R.string.prayer_hail_mary_faith;
-                break;
-            case 2:
-                resId = R.string.prayer_hail_mary_hope;
-                break;
-            case 3:
-                resId = R.string.prayer_hail_mary_charity;
-                break;
-            default:
-                return getHailMary(); // Fallback for invalid position
-        }
-
-        try {
-            return res.getString(resId);
-        } catch (Resources.NotFoundException e) {
-            Log.w(TAG, "Specialized Hail Mary resource not found (pos " + position + "), using standard.");
-            return getHailMary(); // Fallback if specific resource is missing
+        if (position < 1 || position > 3) {
+            return getHailMary(); // Fallback for invalid position
         }
+        return catalog.getPrayer(PrayerStructure.PRAYER_HAIL_MARY_FAITH + position - 1);
     }
 
     public static String getGloryBe() {
-        Resources res = getResourcesSafely();
-        if (res == null) return "Glory be..."; // Basic fallback
-        try {
-            return res.getString(R.string.prayer_glory_be);
-        } catch (Resources.NotFoundException e) {
-            Log.e(TAG, "Resource not found: prayer_glory_be");
-            return "Error: Glory Be missing.";
-        }
+        return catalog.getPrayer(PrayerStructure.PRAYER_GLORY_BE);
     }
 
     public static String getFatimaPrayer() {
-        Resources res = getResourcesSafely();
-        if (res == null) return "O my Jesus..."; // Basic fallback
-        try {
-            return res.getString(R.string.prayer_fatima);
-        } catch (Resources.NotFoundException e) {
-            Log.e(TAG, "Resource not found: prayer_fatima");
-            return "Error: Fatima Prayer missing.";
-        }
+        return catalog.getPrayer(PrayerStructure.PRAYER_FATIMA);
     }
 
     public static String getHailHolyQueen() {
-        Resources res = getResourcesSafely();
-        if (res == null) return "Hail, Holy Queen..."; // Basic fallback
-        try {
-            return res.getString(R.string.prayer_hail_holy_queen);
-        } catch (Resources.NotFoundException e) {
-            Log.e(TAG, "Resource not found: prayer_hail_holy_queen");
-            return "Error: Hail Holy Queen missing.";
-        }
+        return catalog.getPrayer(PrayerStructure.PRAYER_HAIL_HOLY_QUEEN);
     }
 
     public static String getRosaryPrayer() {
-        Resources res = getResourcesSafely();
-        if (res == null) return "Let us pray..."; // Basic fallback
-        try {
-            return res.getString(R.string.prayer_rosary);
-        } catch (Resources.NotFoundException e) {
-            Log.e(TAG, "Resource not found: prayer_rosary");
-            return "Error: Rosary Prayer missing.";
-        }
+        return catalog.getPrayer(PrayerStructure.PRAYER_ROSARY_PRAYER);
     }
 
     /**
-     * Get the titles for a specific mystery type directly from resources
-     * @param mysteryType The type of mystery (joyful, luminous, sorrowful, glorious)
-     * @return Array of titles for each mystery in the set
+     * Get the titles for a specific mystery type
+     * @param mysteryType The type of mystery
+     * @return Shared array of titles for each mystery in the set; do not modify
      */
-    public static String[] getMysteryTitles(String mysteryType) {
-        Resources res = getResourcesSafely();
-        if (res == null || mysteryType == null) {
-            Log.w(TAG, "Cannot get mystery titles: resources or mysteryType is null.");
-            return new String[0];
-        }
-
-        int arrayId = 0;
-        switch (mysteryType.toLowerCase()) {
-            case "joyful":
-                arrayId = R.array.joyful_mysteries_titles;
-                break;
-            case "luminous":
-                arrayId = R.array.luminous_mysteries_titles;
-                break;
-            case "sorrowful":
-                arrayId = R.array.sorrowful_mysteries_titles;
-                break;
-            case "glorious":
-                arrayId = R.array.glorious_mysteries_titles;
-                break;
-            default:
-                Log.w(TAG, "Unknown mystery type for titles: " + mysteryType);
-                return new String[0];
-        }
-
-        try {
-            return res.getStringArray(arrayId);
-        } catch (Resources.NotFoundException e) {
-            Log.e(TAG, "Resource array not found for mystery titles: " + mysteryType);
-            return new String[0];
-        }
+    public static String[] getMysteryTitles(MysteryType mysteryType) {
+        return catalog.getMysteryTitles(mysteryType);
     }
 
     /**
-     * Get the descriptions for a specific mystery type directly from resources
-     * @param mysteryType The type of mystery (joyful, luminous, sorrowful, glorious)
-     * @return Array of descriptions for each mystery in the set
+     * Get the descriptions for a specific mystery type
+     * @param mysteryType The type of mystery
+     * @return Shared array of descriptions for each mystery in the set; do not modify
      */
-    public static String[] getMysteryDescriptions(String mysteryType) {
-        Resources res = getResourcesSafely();
-         if (res == null || mysteryType == null) {
-            Log.w(TAG, "Cannot get mystery descriptions: resources or mysteryType is null.");
-            return new String[0];
-        }
-
-        int arrayId = 0;
-        switch (mysteryType.toLowerCase()) {
-            case "joyful":
-                arrayId = R.array.joyful_mysteries_descriptions;
-                break;
-            case "luminous":
-                arrayId = R.array.luminous_mysteries_descriptions;
-                break;
-            case "sorrowful":
-                arrayId = R.array.sorrowful_mysteries_descriptions;
-                break;
-            case "glorious":
-                arrayId = R.array.glorious_mysteries_descriptions;
-                break;
-             default:
-                Log.w(TAG, "Unknown mystery type for descriptions: " + mysteryType);
-                return new String[0];
-        }
+    public static String[] getMysteryDescriptions(MysteryType mysteryType) {
+        return catalog.getMysteryDescriptions(mysteryType);
+    }
 
-        try {
-            // Handle potentially missing description arrays gracefully
-            if (arrayId != 0) { // Ensure a valid ID was found
-                 return res.getStringArray(arrayId);
-            } else {
-                return new String[0]; // Return empty if no valid ID
-            }
-        } catch (Resources.NotFoundException e) {
-            Log.w(TAG, "Resource array not found for mystery descriptions: " + mysteryType);
-            // Return empty array instead of crashing if descriptions are optional/missing
-            return new String[0];
-        }
+    /**
+     * Get the localized name of a mystery type (e.g. "Joyful", "Gembira")
+     * @param mysteryType The type of mystery
+     * @return The name in the current language
+     */
+    public static String getMysteryTypeName(MysteryType mysteryType) {
+        return catalog.getMysteryTypeName(mysteryType);
     }
 
-    public static String getSuggestedMysteryForToday() {
+    public static MysteryType getSuggestedMysteryForToday() {
         java.util.Calendar calendar = java.util.Calendar.getInstance();
         int dayOfWeek = calendar.get(java.util.Calendar.DAY_OF_WEEK);
 
         // Traditional assignment of mysteries to days of the week
         switch(dayOfWeek) {
             case java.util.Calendar.MONDAY:
-                return "joyful";
+                return MysteryType.JOYFUL;
             case java.util.Calendar.TUESDAY:
-                return "sorrowful";
+                return MysteryType.SORROWFUL;
             case java.util.Calendar.WEDNESDAY:
-                return "glorious";
+                return MysteryType.GLORIOUS;
             case java.util.Calendar.THURSDAY:
-                return "luminous";
+                return MysteryType.LUMINOUS;
             case java.util.Calendar.FRIDAY:
-                return "sorrowful";
+                return MysteryType.SORROWFUL;
             case java.util.Calendar.SATURDAY:
-                return "joyful";
+                return MysteryType.JOYFUL;
             case java.util.Calendar.SUNDAY:
                 // During Advent and Christmas: Joyful
                 // During Lent: Sorrowful
@@ -334,14 +202,14 @@ public class RosaryPrayers {
                 int month = calendar.get(java.util.Calendar.MONTH);
                 // Simple approximation for liturgical seasons
                 if (month == java.util.Calendar.DECEMBER || month == java.util.Calendar.JANUARY) {
-                    return "joyful"; // Advent and Christmas season
+                    return MysteryType.JOYFUL; // Advent and Christmas season
                 } else if (month == java.util.Calendar.FEBRUARY || month == java.util.Calendar.MARCH) {
-                    return "sorrowful"; // Approximate for Lent
+                    return MysteryType.SORROWFUL; // Approximate for Lent
                 } else {
-                    return "glorious"; // Rest of the year
+                    return MysteryType.GLORIOUS; // Rest of the year
                 }
             default:
-                return "joyful";
+                return MysteryType.JOYFUL;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+package com.openrosary.app;
+
+import android.app.Application;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerStructure;
+import com.openrosary.core.RosaryLog;
+import com.openrosary.core.RosaryState;
+import com.openrosary.core.SessionRecord;
+
+import java.io.File;
+
+/**
+ * The rosary being prayed, kept across configuration changes.
+ *
+ * Rotation, theme changes and recreate() tear MainActivity down, but this
+ * holder is retained by the activity's ViewModelStore, so the new activity
+ * picks up the same cursor, haptics engine, measured text and latency data
+ * and only has to bind its views. The session is started once, from the
+ * intent or a saved bundle after process death, and its background threads
+ * are stopped when the activity finishes for good.
+ *
+ * Every position reached is also written to the SessionJournal, so the
+ * rosary can be resumed even when the whole task is gone. Finishing the
+ * activity ends the journaled session and adds it to the PrayerHistory,
+ * with the time spent on each prayer as measured by the PrayerTimingRecorder.
+ */
+public final class RosarySession extends AndroidViewModel {
+    private static final String TAG = "RosarySession";
+
+    private MysteryType mysteryType;
+    private RosaryState rosaryState;     // Null until started
+    private HapticsEngine haptics;
+    private PrayerTextCache prayerTextCache;
+    private LatencyTracker latencyTracker; // Debuggable builds only
+    private SessionJournal journal;
+    private int journalSession;          // Our session in the process-wide journal
+    private PrayerTimingRecorder timingRecorder;
+
+    // For the prayer history
+    private int highestPosition;
+    private boolean moved; // Sessions opened and left without a step are not history, unless resumed
+
+    public RosarySession(@NonNull Application application) {
+        super(application);
+    }
+
+    /**
+     * Whether the session has been started; false for a new activity, true after a recreate.
+     * @return True once start has been called
+     */
+    boolean isStarted() {
+        return rosaryState != null;
+    }
+
+    /**
+     * Start praying a set of mysteries. Only the first call has any effect.
+     * @param mysteryType The mysteries being prayed
+     * @param position The prayer to start on (1-80)
+     */
+    void start(MysteryType mysteryType, int position) {
+        if (isStarted()) {
+            return;
+        }
+        Application application = getApplication();
+        // Load prayers for the app language before the state reads any text
+        RosaryPrayers.initialize(application);
+
+        this.mysteryType = mysteryType;
+        rosaryState = new RosaryState(mysteryType, RosaryPrayers.getPrayerText());
+        rosaryState.seekTo(Math.max(1, position));
+        haptics = new HapticsEngine(application);
+        prayerTextCache = new PrayerTextCache();
+        if (OpenRosaryApplication.isDebuggable()) {
+            latencyTracker = new LatencyTracker();
+        }
+        journal = SessionJournal.get(application);
+        journalSession = journal.begin(mysteryType, rosaryState.getTotalCount());
+        highestPosition = rosaryState.getTotalCount();
+        // Past the first prayer the rosary is being resumed, from the journal or after process death.
+        // Its earlier progress belongs in the history even if it is closed again without a step.
+        boolean resumed = position > 1;
+        moved = resumed;
+        timingRecorder = new PrayerTimingRecorder(new File(application.getFilesDir(), PrayerTimingRecorder.FILE_NAME));
+        timingRecorder.start(mysteryType, highestPosition, resumed, SystemClock.uptimeMillis());
+        RosaryLog.d(TAG, "Session started at position %d", rosaryState.getTotalCount());
+    }
+
+    /**
+     * Journal the position after the cursor moved.
+     */
+    void onPositionChanged() {
+        if (journal == null) {
+            return;
+        }
+        int position = rosaryState.getTotalCount();
+        journal.record(journalSession, mysteryType, position);
+        highestPosition = Math.max(highestPosition, position);
+        moved = true;
+    }
+
+    /**
+     * Get the journaled position onto disk now, e.g. before going to the background.
+     */
+    void flushJournal() {
+        if (journal != null) {
+            journal.flush();
+        }
+    }
+
+    MysteryType getMysteryType() {
+        return mysteryType;
+    }
+
+    RosaryState getRosaryState() {
+        return rosaryState;
+    }
+
+    /**
+     * Gets the recorder the activity notes every step in.
+     * @return The recorder, or null until started
+     */
+    PrayerTimingRecorder getTimingRecorder() {
+        return timingRecorder;
+    }
+
+    HapticsEngine getHaptics() {
+        return haptics;
+    }
+
+    PrayerTextCache getPrayerTextCache() {
+        return prayerTextCache;
+    }
+
+    /**
+     * Gets the latency tracker.
+     * @return The tracker, or null outside debuggable builds
+     */
+    LatencyTracker getLatencyTracker() {
+        return latencyTracker;
+    }
+
+    @Override
+    protected void onCleared() {
+        // The activity finished: the rosary was completed or left, so there is nothing to resume
+        if (journal != null) {
+            recordHistory();
+            journal.end(journalSession);
+        }
+        if (haptics != null) {
+            haptics.release();
+        }
+        if (prayerTextCache != null) {
+            prayerTextCache.release();
+        }
+        if (latencyTracker != null) {
+            latencyTracker.release();
+        }
+    }
+
+    private void recordHistory() {
+        if (!moved) {
+            timingRecorder.finish(SystemClock.uptimeMillis(), null);
+            return;
+        }
+        // Read here; the totals arrive on the recorder's thread
+        MysteryType prayed = mysteryType;
+        String languageCode = LocaleManager.getLanguageCode(getApplication());
+        int reached = highestPosition;
+        long endTimeMillis = System.currentTimeMillis();
+        PrayerHistory history = PrayerHistory.get(getApplication());
+        timingRecorder.finish(SystemClock.uptimeMillis(), (startTimeMillis, dwellMillis) ->
+                history.record(new SessionRecord(startTimeMillis, endTimeMillis, prayed, languageCode, reached,
+                        reached == PrayerStructure.TOTAL_PRAYERS, dwellMillis)));
+    }
+}
@@ -0,0 +1,342 @@
+package com.openrosary.app;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.util.Log;
+
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerStructure;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of where the rosary in progress is, so it can be
+ * resumed after the process is killed.
+ *
+ * Every record is 16 bytes: a magic number, four reserved bytes, the mystery
+ * type, the position and a CRC32 of the rest. Records are ordered by where
+ * they are in the file and only the newest one matters, so resuming reads
+ * the last whole record of the file and nothing else; a torn write at the
+ * tail fails its checksum and the record before it is used.
+ *
+ * There is one journal per process, written by one background thread, so a
+ * rosary being left and the next one being started never write over each
+ * other. Each rosary begins its own session in the journal; only the latest
+ * session can record or end, so a late end from a rosary already left
+ * cannot end the one after it.
+ *
+ * Reading and writing happen on the journal's thread. Positions recorded in a
+ * burst are coalesced into one append, appends are fsynced in batches, and
+ * the file is compacted down to its newest record once it grows. Finishing
+ * the rosary appends an end record, after which there is nothing to resume.
+ */
+final class SessionJournal {
+    private static final String TAG = "SessionJournal";
+    static final String FILE_NAME = "session.journal";
+
+    private static final int RECORD_SIZE = 16;
+    private static final int MAGIC = 0x524F5331;   // "ROS1"
+    private static final int CHECKED_BYTES = 12;   // Everything before the CRC
+    private static final int END_POSITION = 0;    // Recorded when the rosary is finished or abandoned
+    private static final int COMPACT_AFTER_RECORDS = 512; // 8 KB
+    private static final long SYNC_DELAY_MS = 2000; // Appends within this window share one fsync
+
+    /**
+     * Receives the rosary to resume, on the main thread.
+     */
+    interface OnLatest {
+        /**
+         * @param entry The rosary left in progress, or null if there is none
+         */
+        void onLatest(Entry entry);
+    }
+
+    /**
+     * A rosary that can be resumed.
+     */
+    static final class Entry {
+        final MysteryType mysteryType;
+        final int position; // 1-80
+
+        Entry(MysteryType mysteryType, int position) {
+            this.mysteryType = mysteryType;
+            this.position = position;
+        }
+    }
+
+    private static SessionJournal instance;
+
+    private final File file;
+    private final Handler worker;
+    private final Runnable appendTask = this::appendLatest;
+    private final Runnable syncTask = this::sync;
+
+    // Latest position from the main thread, picked up by the next append
+    private final Object lock = new Object();
+    private int currentSession;   // The only session that may record
+    private int latestMysteryOrdinal;
+    private int latestPosition = -1;
+    private boolean appendPending;
+
+    // Worker thread only
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+    private FileChannel channel;
+    private int recordCount;      // Whole records in the file
+    private int writtenPosition = -1;
+    private int writtenMysteryOrdinal = -1;
+    private boolean syncScheduled;
+
+    private SessionJournal(File file) {
+        this.file = file;
+        HandlerThread thread = new HandlerThread(TAG);
+        thread.start();
+        worker = new Handler(thread.getLooper());
+    }
+
+    /**
+     * Gets the journal for this process.
+     * @param context Any context
+     * @return The journal
+     */
+    static synchronized SessionJournal get(Context context) {
+        if (instance == null) {
+            instance = new SessionJournal(new File(context.getApplicationContext().getFilesDir(), FILE_NAME));
+        }
+        return instance;
+    }
+
+    /**
+     * Start journaling a rosary. Any session begun earlier can no longer record or end.
+     * @param mysteryType The mysteries being prayed
+     * @param position The prayer under the cursor (1-80)
+     * @return The session, to pass to record and end
+     */
+    int begin(MysteryType mysteryType, int position) {
+        int session;
+        synchronized (lock) {
+            session = ++currentSession;
+        }
+        post(session, mysteryType.ordinal(), position);
+        return session;
+    }
+
+    /**
+     * Note the position of the rosary in progress. Cheap enough to call after every step.
+     * @param session The session returned by begin
+     * @param mysteryType The mysteries being prayed
+     * @param position The prayer under the cursor (1-80)
+     */
+    void record(int session, MysteryType mysteryType, int position) {
+        post(session, mysteryType.ordinal(), position);
+    }
+
+    /**
+     * Note that the rosary was finished or left, so there is nothing to resume.
+     * Ignored if a newer session has begun.
+     * @param session The session returned by begin
+     */
+    void end(int session) {
+        if (post(session, 0, END_POSITION)) {
+            flush();
+        }
+    }
+
+    /**
+     * Write and fsync whatever is pending now rather than with the next batch.
+     * Call when the app may be about to go away, e.g. from onPause.
+     */
+    void flush() {
+        worker.post(() -> {
+            appendLatest();
+            sync();
+        });
+    }
+
+    /**
+     * Find the rosary to resume, if any. Read on the journal's thread after
+     * anything still pending is written.
+     * @param onLatest Told the result on the main thread
+     */
+    void readLatest(OnLatest onLatest) {
+        Handler main = new Handler(Looper.getMainLooper());
+        worker.post(() -> {
+            appendLatest();
+            Entry entry = readLatest(file);
+            main.post(() -> onLatest.onLatest(entry));
+        });
+    }
+
+    /**
+     * Find the rosary to resume, if any. Reads at most two records from the end of the file.
+     * @param file The journal file
+     * @return The rosary left in progress, or null if it was finished or there is no journal
+     */
+    private static Entry readLatest(File file) {
+        if (!file.exists()) {
+            return null;
+        }
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+            CRC32 check = new CRC32();
+            long count = in.length() / RECORD_SIZE;
+            // The newest record may be torn if the process died mid-write; fall back to the one before it
+            for (long index = count - 1; index >= 0 && index >= count - 2; index--) {
+                buffer.clear();
+                if (in.getChannel().read(buffer, index * RECORD_SIZE) != RECORD_SIZE || !isValid(buffer, check)) {
+                    continue;
+                }
+                int mysteryOrdinal = buffer.get(8);
+                int position = buffer.get(9);
+                MysteryType[] types = MysteryType.values();
+                if (position == END_POSITION || mysteryOrdinal < 0 || mysteryOrdinal >= types.length
+                        || position > PrayerStructure.TOTAL_PRAYERS) {
+                    return null;
+                }
+                return new Entry(types[mysteryOrdinal], position);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Error reading session journal: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+        return null;
+    }
+
+    /**
+     * @return False if the session has been superseded and nothing was posted
+     */
+    private boolean post(int session, int mysteryOrdinal, int position) {
+        synchronized (lock) {
+            if (session != currentSession) {
+                return false;
+            }
+            latestMysteryOrdinal = mysteryOrdinal;
+            latestPosition = position;
+            if (appendPending) {
+                return true; // The queued append will write this one
+            }
+            appendPending = true;
+        }
+        worker.post(appendTask);
+        return true;
+    }
+
+    private void appendLatest() {
+        int mysteryOrdinal;
+        int position;
+        synchronized (lock) {
+            appendPending = false;
+            mysteryOrdinal = latestMysteryOrdinal;
+            position = latestPosition;
+        }
+        if (position < 0 || (position == writtenPosition && mysteryOrdinal == writtenMysteryOrdinal)) {
+            return;
+        }
+        try {
+            if (recordCount >= COMPACT_AFTER_RECORDS) {
+                compact(mysteryOrdinal, position);
+            } else {
+                openChannel();
+                encode(mysteryOrdinal, position);
+                channel.write(record, (long) recordCount * RECORD_SIZE);
+                recordCount++;
+            }
+            writtenMysteryOrdinal = mysteryOrdinal;
+            writtenPosition = position;
+            if (!syncScheduled) {
+                syncScheduled = true;
+                worker.postDelayed(syncTask, SYNC_DELAY_MS);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Error writing session journal: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+            closeChannel(); // Reopen and realign on the next append
+        }
+    }
+
+    private void sync() {
+        worker.removeCallbacks(syncTask);
+        syncScheduled = false;
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            Log.e(TAG, "Error syncing session journal: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+    }
+
+    /**
+     * Replace the journal with a single record. The new file is synced before
+     * it is renamed over the old one, so a crash leaves one or the other whole,
+     * and the directory is synced after, so the rename survives a power cut.
+     */
+    private void compact(int mysteryOrdinal, int position) throws IOException {
+        closeChannel();
+        File compacted = new File(file.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(compacted)) {
+            encode(mysteryOrdinal, position);
+            out.getChannel().write(record);
+            out.getFD().sync();
+        }
+        if (!compacted.renameTo(file)) {
+            throw new IOException("Could not replace " + file.getName());
+        }
+        try (FileChannel directory = FileChannel.open(file.getParentFile().toPath(), StandardOpenOption.READ)) {
+            directory.force(true);
+        }
+        openChannel();
+    }
+
+    private void openChannel() throws IOException {
+        if (channel != null) {
+            return;
+        }
+        channel = new RandomAccessFile(file, "rw").getChannel();
+        recordCount = (int) Math.min(Integer.MAX_VALUE, channel.size() / RECORD_SIZE);
+        // Drop a torn record left by a crash so appends stay aligned
+        channel.truncate((long) recordCount * RECORD_SIZE);
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            Log.e(TAG, "Error closing session journal: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+        channel = null;
+    }
+
+    private void encode(int mysteryOrdinal, int position) {
+        record.clear();
+        record.putInt(MAGIC);
+        record.putInt(0); // Reserved
+        record.put((byte) mysteryOrdinal);
+        record.put((byte) position);
+        record.putShort((short) 0);
+        crc.reset();
+        crc.update(record.array(), 0, CHECKED_BYTES);
+        record.putInt((int) crc.getValue());
+        record.flip();
+    }
+
+    private static boolean isValid(ByteBuffer buffer, CRC32 check) {
+        if (buffer.getInt(0) != MAGIC) {
+            return false;
+        }
+        check.reset();
+        check.update(buffer.array(), 0, CHECKED_BYTES);
+        return buffer.getInt(CHECKED_BYTES) == (int) check.getValue();
+    }
+}
@@ -0,0 +1,180 @@
+package com.openrosary.app;
+
+import android.os.Bundle;
+import android.util.Log;
+import android.widget.Button;
+import android.widget.TextView;
+
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerStats;
+import com.openrosary.core.PrayerStructure;
+
+import java.lang.ref.WeakReference;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * Shows the prayer statistics. They are kept up to date by PrayerHistory
+ * and already in memory, so the screen is filled in as it opens, however
+ * long the history; it refreshes if they change while it is showing. If
+ * the history could not be opened it says so, and tries again each time
+ * the screen is shown.
+ */
+public class StatsActivity extends BaseActivity {
+
+    private static final String TAG = "StatsActivity";
+    private boolean isDarkMode = false;
+    private final StatsCallback statsCallback = new StatsCallback(this);
+
+    /**
+     * Refreshes the screen when the statistics change.
+     * Holds the activity weakly so the process-wide history never keeps it alive.
+     */
+    private static final class StatsCallback implements PrayerHistory.StatsListener {
+        private final WeakReference<StatsActivity> activityRef;
+
+        StatsCallback(StatsActivity activity) {
+            activityRef = new WeakReference<>(activity);
+        }
+
+        @Override
+        public void onStatsChanged(PrayerStats stats) {
+            StatsActivity activity = activityRef.get();
+            if (activity != null && !activity.isFinishing()) {
+                activity.showStats(stats);
+            }
+        }
+
+        @Override
+        public void onStatsUnavailable() {
+            StatsActivity activity = activityRef.get();
+            if (activity != null && !activity.isFinishing()) {
+                activity.showUnavailable();
+            }
+        }
+    }
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        try {
+            super.onCreate(savedInstanceState);
+            setContentView(R.layout.activity_stats);
+
+            // Get the isDarkMode value from the settings to use for UI elements
+            isDarkMode = AppSettings.get(this).getSettings().isDarkMode();
+
+            updateTextColors();
+            setupBackButton();
+        } catch (Exception e) {
+            Log.e(TAG, "Error in onCreate: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+    }
+
+    @Override
+    protected void onStart() {
+        super.onStart();
+        PrayerHistory history = PrayerHistory.get(this);
+        history.addStatsListener(statsCallback);
+        // Null if the app was started moments ago or the history could not be opened;
+        // try opening it again and let the listener fill the screen in
+        PrayerStats stats = history.getStats();
+        if (stats != null) {
+            showStats(stats);
+        } else {
+            history.preload();
+        }
+    }
+
+    @Override
+    protected void onStop() {
+        PrayerHistory.get(this).removeStatsListener(statsCallback);
+        super.onStop();
+    }
+
+    private void showStats(PrayerStats stats) {
+        try {
+            TextView content = findViewById(R.id.statsContentTextView);
+            if (content == null) {
+                return;
+            }
+            if (stats.getCompletedCount() == 0) {
+                content.setText(R.string.stats_empty);
+                return;
+            }
+
+            StringBuilder text = new StringBuilder();
+            text.append(getString(R.string.stats_current_streak, days(stats.getCurrentStreak(LocalDate.now())))).append('\n');
+            text.append(getString(R.string.stats_longest_streak, days(stats.getLongestStreak()))).append('\n');
+            text.append(getString(R.string.stats_completed, stats.getCompletedCount())).append("\n\n");
+
+            text.append(getString(R.string.stats_by_mysteries)).append('\n');
+            appendCount(text, getString(R.string.joyful_mysteries), stats.getCompletedCount(MysteryType.JOYFUL));
+            appendCount(text, getString(R.string.luminous_mysteries), stats.getCompletedCount(MysteryType.LUMINOUS));
+            appendCount(text, getString(R.string.sorrowful_mysteries), stats.getCompletedCount(MysteryType.SORROWFUL));
+            appendCount(text, getString(R.string.glorious_mysteries), stats.getCompletedCount(MysteryType.GLORIOUS));
+            text.append('\n');
+
+            text.append(getString(R.string.stats_by_weekday)).append('\n');
+            Locale locale = getResources().getConfiguration().getLocales().get(0);
+            for (DayOfWeek weekday : DayOfWeek.values()) {
+                appendCount(text, weekday.getDisplayName(TextStyle.FULL, locale), stats.getCompletedCount(weekday));
+            }
+
+            text.append('\n').append(getString(R.string.stats_decade_times));
+            for (int decade = 1; decade <= PrayerStructure.DECADE_COUNT; decade++) {
+                long seconds = stats.getAverageDecadeMillis(decade) / 1000;
+                text.append('\n').append(getString(R.string.stats_decade_time, decade, (int) (seconds / 60), (int) (seconds % 60)));
+            }
+            content.setText(text);
+        } catch (Exception e) {
+            Log.e(TAG, "Error showing statistics: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+    }
+
+    private void showUnavailable() {
+        TextView content = findViewById(R.id.statsContentTextView);
+        if (content != null) {
+            content.setText(R.string.stats_unavailable);
+        }
+    }
+
+    private String days(int count) {
+        return getResources().getQuantityString(R.plurals.stats_days, count, count);
+    }
+
+    private void appendCount(StringBuilder text, String label, int count) {
+        text.append(getString(R.string.stats_count_line, label, count)).append('\n');
+    }
+
+    private void updateTextColors() {
+        try {
+            int primaryTextColor = isDarkMode ?
+                getResources().getColor(R.color.colorAccent) :
+                getResources().getColor(R.color.colorPrimary);
+
+            TextView statsTitleTextView = findViewById(R.id.statsTitleTextView);
+            if (statsTitleTextView != null) statsTitleTextView.setTextColor(primaryTextColor);
+
+            TextView statsContentTextView = findViewById(R.id.statsContentTextView);
+            if (statsContentTextView != null) statsContentTextView.setTextColor(primaryTextColor);
+
+        } catch (Exception e) {
+            Log.e(TAG, "Error updating text colors: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+    }
+
+    private void setupBackButton() {
+        try {
+            Button backButton = findViewById(R.id.backButton);
+            if (backButton != null) {
+                backButton.setOnClickListener(v -> finish());
+            } else {
+                Log.e(TAG, "Back button not found!");
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Error setting up back button: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+        }
+    }
+}
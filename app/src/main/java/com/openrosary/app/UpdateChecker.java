@@ -10,6 +10,8 @@ import android.os.Handler;
 import android.os.Looper;
 import android.util.Log;
 
+import com.openrosary.core.RosaryLog;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -34,15 +36,15 @@ public class UpdateChecker {
         this.mainHandler = new Handler(Looper.getMainLooper());
         this.executorService = Executors.newSingleThreadExecutor();
         this.currentVersion = getCurrentAppVersion();
-        Log.d(TAG, "Current app version: " + currentVersion);
+        RosaryLog.d(TAG, "Current app version: %s", currentVersion);
     }    public void checkForUpdates() {
-        Log.d(TAG, "Starting update check...");
+        RosaryLog.d(TAG, "Starting update check...");
         executorService.execute(() -> performUpdateCheck());
     }
     
     // Test method - force a specific version for testing
     public void testUpdateChecker(String testVersion) {
-        Log.d(TAG, "Testing update checker with version: " + testVersion);
+        RosaryLog.d(TAG, "Testing update checker with version: %s", testVersion);
         this.currentVersion = testVersion;
         executorService.execute(() -> performUpdateCheck());
     }
@@ -56,7 +58,7 @@ public class UpdateChecker {
         }
     }
       private void performUpdateCheck() {
-        Log.d(TAG, "Performing update check against: " + GITHUB_API_URL);
+        RosaryLog.d(TAG, "Performing update check against: %s", GITHUB_API_URL);
         try {
             URI uri = new URI(GITHUB_API_URL);
             HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
@@ -67,7 +69,7 @@ public class UpdateChecker {
             connection.setRequestProperty("User-Agent", "OpenRosary-App");
             
             int responseCode = connection.getResponseCode();
-            Log.d(TAG, "GitHub API response code: " + responseCode);
+            RosaryLog.d(TAG, "GitHub API response code: %d", responseCode);
             
             if (responseCode == HttpURLConnection.HTTP_OK) {
                 BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()));
@@ -80,7 +82,7 @@ public class UpdateChecker {
                 reader.close();
                 connection.disconnect();
                 
-                Log.d(TAG, "Received response, processing...");
+                RosaryLog.d(TAG, "Received response, processing...");
                 processUpdateResponse(responseBuilder.toString());
             } else {
                 Log.e(TAG, "HTTP error code: " + responseCode);
@@ -114,13 +116,13 @@ public class UpdateChecker {
                 }
             }
               // Compare versions
-            Log.d(TAG, "Comparing versions - Current: " + currentVersion + ", Latest: " + latestVersion);
+            RosaryLog.d(TAG, "Comparing versions - Current: %s, Latest: %s", currentVersion, latestVersion);
             if (isNewVersionAvailable(currentVersion, latestVersion)) {
-                Log.d(TAG, "New version available, showing dialog");
+                RosaryLog.d(TAG, "New version available, showing dialog");
                 final String finalDownloadUrl = downloadUrl;
                 mainHandler.post(() -> showUpdateDialog(latestVersion, finalDownloadUrl));
             } else {
-                Log.d(TAG, "App is up to date");
+                RosaryLog.d(TAG, "App is up to date");
             }
             
         } catch (Exception e) {
@@ -128,25 +130,25 @@ public class UpdateChecker {
         }
     }    private boolean isNewVersionAvailable(String currentVersion, String latestVersion) {
         try {
-            Log.d(TAG, "Version comparison - Current: '" + currentVersion + "', Latest: '" + latestVersion + "'");
+            RosaryLog.d(TAG, "Version comparison - Current: '%s', Latest: '%s'", currentVersion, latestVersion);
             
             // Remove 'v' prefix if present
             String current = currentVersion.startsWith("v") ? currentVersion.substring(1) : currentVersion;
             String latest = latestVersion.startsWith("v") ? latestVersion.substring(1) : latestVersion;
             
-            Log.d(TAG, "After prefix removal - Current: '" + current + "', Latest: '" + latest + "'");
+            RosaryLog.d(TAG, "After prefix removal - Current: '%s', Latest: '%s'", current, latest);
             
             // Skip pre-release versions like "beta", "alpha", etc. - don't treat as updates
             if (latest.equalsIgnoreCase("beta") || latest.equalsIgnoreCase("alpha") || latest.contains("-rc") || latest.contains("-alpha") || latest.contains("-beta")) {
-                Log.d(TAG, "Latest version is pre-release, skipping update check");
+                RosaryLog.d(TAG, "Latest version is pre-release, skipping update check");
                 return false; // Don't show updates for pre-release versions
             }
             
             String[] currentParts = current.split("\\.");
             String[] latestParts = latest.split("\\.");
             
-            Log.d(TAG, "Current parts: " + java.util.Arrays.toString(currentParts));
-            Log.d(TAG, "Latest parts: " + java.util.Arrays.toString(latestParts));
+            // Each part is logged as it is compared
+            RosaryLog.d(TAG, "Version parts - Current: %d, Latest: %d", currentParts.length, latestParts.length);
             
             int maxLength = Math.max(currentParts.length, latestParts.length);
             
@@ -154,19 +156,19 @@ public class UpdateChecker {
                 int currentPart = i < currentParts.length ? Integer.parseInt(currentParts[i]) : 0;
                 int latestPart = i < latestParts.length ? Integer.parseInt(latestParts[i]) : 0;
                 
-                Log.d(TAG, "Comparing part " + i + ": current=" + currentPart + ", latest=" + latestPart);
+                RosaryLog.d(TAG, "Comparing part %d: current=%d, latest=%d", i, currentPart, latestPart);
                 
                 if (latestPart > currentPart) {
-                    Log.d(TAG, "New version available! (latest > current)");
+                    RosaryLog.d(TAG, "New version available! (latest > current)");
                     return true;
                 } else if (latestPart < currentPart) {
-                    Log.d(TAG, "Current version is newer (current > latest)");
+                    RosaryLog.d(TAG, "Current version is newer (current > latest)");
                     return false;
                 }
                 // If equal, continue to next part
             }
             
-            Log.d(TAG, "Versions are equal");
+            RosaryLog.d(TAG, "Versions are equal");
             return false; // Versions are equal
             
         } catch (Exception e) {
@@ -1,7 +1,6 @@
 package com.openrosary.app;
 
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.content.Context;
@@ -24,7 +23,9 @@ import androidx.appcompat.app.AppCompatDelegate;
 import androidx.appcompat.widget.SwitchCompat;
 import androidx.constraintlayout.widget.ConstraintLayout;
 import androidx.core.view.GestureDetectorCompat;
+import androidx.lifecycle.Lifecycle;
 
+import java.lang.ref.WeakReference;
 import java.util.Locale;
 
 public class WelcomeActivity extends BaseActivity implements GestureDetector.OnGestureListener, AdapterView.OnItemSelectedListener {
@@ -65,11 +66,53 @@ public class WelcomeActivity extends BaseActivity implements GestureDetector.OnG
             }              // Check for app updates
             checkForUpdates();
 
+            // A rosary still in progress when the app was killed picks up where it was
+            if (savedInstanceState == null) {
+                resumeJournaledRosary();
+            }
+
         } catch (Exception e) {
             Log.e(TAG, "Error in onCreate: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
         }
     }
     
+    /**
+     * Opens the rosary found in the journal, if the welcome screen is still showing.
+     * Holds the activity weakly so the read never keeps it alive.
+     */
+    private static final class ResumeCallback implements SessionJournal.OnLatest {
+        private final WeakReference<WelcomeActivity> activityRef;
+
+        ResumeCallback(WelcomeActivity activity) {
+            activityRef = new WeakReference<>(activity);
+        }
+
+        @Override
+        public void onLatest(SessionJournal.Entry entry) {
+            WelcomeActivity activity = activityRef.get();
+            // Not if the user has already moved on from the welcome screen
+            if (entry != null && activity != null && !activity.isFinishing()
+                    && activity.getLifecycle().getCurrentState().isAtLeast(Lifecycle.State.STARTED)) {
+                activity.resumeRosary(entry);
+            }
+        }
+    }
+    
+    /**
+     * Go straight back into a rosary that was left in progress. Only the last
+     * record of the session journal is read, in the background.
+     */
+    private void resumeJournaledRosary() {
+        SessionJournal.get(this).readLatest(new ResumeCallback(this));
+    }
+    
+    private void resumeRosary(SessionJournal.Entry entry) {
+        Intent intent = new Intent(this, MainActivity.class);
+        intent.putExtra(MainActivity.EXTRA_MYSTERY_TYPE, entry.mysteryType.key());
+        intent.putExtra(MainActivity.EXTRA_POSITION, entry.position);
+        startActivity(intent);
+    }
+    
     private void initializeViews() {        try {
             themeTextView = findViewById(R.id.themeTextView);
             themeSpinner = findViewById(R.id.themeSpinner);
@@ -323,12 +366,8 @@ public class WelcomeActivity extends BaseActivity implements GestureDetector.OnG
     
     private void saveThemePreference(boolean isDarkMode) {
         try {
-            SharedPreferences settings = getSharedPreferences(PREFS_NAME, 0);
-            if (settings != null) {
-                SharedPreferences.Editor editor = settings.edit();
-                editor.putBoolean(THEME_KEY, isDarkMode);
-                editor.apply();
-            }
+            // Takes effect at once; saved in the background
+            AppSettings.get(this).setDarkMode(isDarkMode);
         } catch (Exception e) {
             Log.e(TAG, "Error saving theme preference: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
         }
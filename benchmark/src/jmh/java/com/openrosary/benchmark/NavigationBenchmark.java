@@ -0,0 +1,68 @@
+package com.openrosary.benchmark;
+
+import com.openrosary.app.RosaryPrayers;
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerHandle;
+import com.openrosary.core.PrayerStructure;
+import com.openrosary.core.RosaryState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-swipe navigation: what runs on every advance or go-back.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+public class NavigationBenchmark {
+
+    @Param({"JOYFUL", "LUMINOUS", "SORROWFUL", "GLORIOUS"})
+    public String mysteryType;
+
+    private RosaryState state;
+
+    @Setup
+    public void setUp() throws Exception {
+        StandInContext.initializeApp("en");
+        state = new RosaryState(MysteryType.valueOf(mysteryType), RosaryPrayers.getPrayerText());
+    }
+
+    @Benchmark
+    public PrayerHandle advance() {
+        // Wrap around so every call is a real step
+        if (state.isComplete()) {
+            state.seekTo(0);
+        }
+        return state.advance();
+    }
+
+    @Benchmark
+    public PrayerHandle goBack() {
+        if (state.position() == 0) {
+            state.seekTo(PrayerStructure.TOTAL_PRAYERS);
+        }
+        return state.goBack();
+    }
+
+    @Benchmark
+    public int getTotalCount() {
+        return state.getTotalCount();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PrayerStructure.TOTAL_PRAYERS * 2)
+    public void isBeadTypeTransition(Blackhole blackhole) {
+        for (int position = 1; position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+            state.seekTo(position);
+            blackhole.consume(state.isBeadTypeTransition(true));
+            blackhole.consume(state.isBeadTypeTransition(false));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.openrosary.benchmark;
+
+import com.openrosary.app.RosaryPrayers;
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerStructure;
+import com.openrosary.core.RosaryState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Position lookups and prayer text resolution over all 80 positions.
+ * Scores are per position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+public class PrayerLookupBenchmark {
+
+    @Param({"JOYFUL", "LUMINOUS", "SORROWFUL", "GLORIOUS"})
+    public String mysteryType;
+
+    private RosaryState state;
+
+    @Setup
+    public void setUp() throws Exception {
+        StandInContext.initializeApp("en");
+        state = new RosaryState(MysteryType.valueOf(mysteryType), RosaryPrayers.getPrayerText());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PrayerStructure.TOTAL_PRAYERS)
+    public void prayerStructureLookups(Blackhole blackhole) {
+        for (int position = 1; position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+            blackhole.consume(PrayerStructure.getPrayerTypeForCount(position));
+            blackhole.consume(PrayerStructure.getStageForCount(position));
+            blackhole.consume(PrayerStructure.getDecadeForCount(position));
+            blackhole.consume(PrayerStructure.getMysteryIndex(position));
+            blackhole.consume(PrayerStructure.getHailMaryNumber(position));
+            blackhole.consume(PrayerStructure.getBeadKind(position));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PrayerStructure.TOTAL_PRAYERS)
+    public void getPrayerTextByTotalCount(Blackhole blackhole) {
+        for (int position = 1; position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+            blackhole.consume(state.getPrayerTextByTotalCount(position));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PrayerStructure.TOTAL_PRAYERS)
+    public void getPrayerLabelByTotalCount(Blackhole blackhole) {
+        for (int position = 1; position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+            blackhole.consume(state.getPrayerLabelByTotalCount(position));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package android.content;
+
+import android.content.res.Configuration;
+import android.content.res.Resources;
+
+/**
+ * JVM stand-in for the parts of android.content.Context the rosary core uses.
+ */
+public abstract class Context {
+    public abstract Resources getResources();
+
+    public abstract SharedPreferences getSharedPreferences(String name, int mode);
+
+    public abstract Context createConfigurationContext(Configuration overrideConfiguration);
+
+    public abstract Context getApplicationContext();
+}
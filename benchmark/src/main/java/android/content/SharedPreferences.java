@@ -0,0 +1,27 @@
+package android.content;
+
+/**
+ * JVM stand-in for the parts of android.content.SharedPreferences the rosary core uses.
+ */
+public interface SharedPreferences {
+    String getString(String key, String defValue);
+
+    default boolean getBoolean(String key, boolean defValue) {
+        return defValue;
+    }
+
+    default Editor edit() {
+        throw new UnsupportedOperationException("Settings are read-only off the device");
+    }
+
+    /**
+     * JVM stand-in for android.content.SharedPreferences.Editor.
+     */
+    interface Editor {
+        Editor putString(String key, String value);
+
+        Editor putBoolean(String key, boolean value);
+
+        boolean commit();
+    }
+}
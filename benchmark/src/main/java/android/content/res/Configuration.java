@@ -0,0 +1,24 @@
+package android.content.res;
+
+import android.os.LocaleList;
+
+import java.util.Locale;
+
+/**
+ * JVM stand-in for android.content.res.Configuration; only carries the locale.
+ */
+public class Configuration {
+    private LocaleList locales = new LocaleList();
+
+    public void setLocale(Locale locale) {
+        locales = new LocaleList(locale);
+    }
+
+    public void setLocales(LocaleList locales) {
+        this.locales = locales;
+    }
+
+    public LocaleList getLocales() {
+        return locales;
+    }
+}
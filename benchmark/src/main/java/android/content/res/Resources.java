@@ -0,0 +1,44 @@
+package android.content.res;
+
+import java.util.Map;
+
+/**
+ * JVM stand-in for android.content.res.Resources backed by in-memory tables.
+ */
+public class Resources {
+    private final Map<Integer, String> strings;
+    private final Map<Integer, String[]> arrays;
+
+    public Resources(Map<Integer, String> strings, Map<Integer, String[]> arrays) {
+        this.strings = strings;
+        this.arrays = arrays;
+    }
+
+    public String getString(int id) {
+        String value = strings.get(id);
+        if (value == null) {
+            throw new NotFoundException("String resource ID #0x" + Integer.toHexString(id));
+        }
+        return value;
+    }
+
+    public String getString(int id, Object... formatArgs) {
+        return String.format(getString(id), formatArgs);
+    }
+
+    public String[] getStringArray(int id) {
+        String[] value = arrays.get(id);
+        if (value == null) {
+            throw new NotFoundException("Array resource ID #0x" + Integer.toHexString(id));
+        }
+        return value;
+    }
+
+    public static class NotFoundException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public NotFoundException(String name) {
+            super(name);
+        }
+    }
+}
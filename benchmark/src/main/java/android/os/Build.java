@@ -0,0 +1,14 @@
+package android.os;
+
+/**
+ * JVM stand-in for android.os.Build; reports the app's target SDK.
+ */
+public class Build {
+    public static class VERSION {
+        public static final int SDK_INT = 34;
+    }
+
+    public static class VERSION_CODES {
+        public static final int N = 24;
+    }
+}
@@ -0,0 +1,16 @@
+package android.os;
+
+/**
+ * JVM stand-in for android.os.Handler; only posting is supported.
+ */
+public class Handler {
+    private final Looper looper;
+
+    public Handler(Looper looper) {
+        this.looper = looper;
+    }
+
+    public final boolean post(Runnable task) {
+        return !looper.quitting && looper.queue.offer(task);
+    }
+}
@@ -0,0 +1,29 @@
+package android.os;
+
+/**
+ * JVM stand-in for android.os.HandlerThread.
+ */
+public class HandlerThread extends Thread {
+    private final Looper looper = new Looper();
+
+    public HandlerThread(String name) {
+        super(name);
+        setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+        looper.loop();
+    }
+
+    public Looper getLooper() {
+        return looper;
+    }
+
+    public boolean quitSafely() {
+        looper.quitting = true;
+        // Wake the loop so it sees the flag once the queue is empty
+        looper.queue.offer(() -> { });
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package android.os;
+
+import java.util.Locale;
+
+/**
+ * JVM stand-in for android.os.LocaleList.
+ */
+public final class LocaleList {
+    private final Locale[] locales;
+
+    public LocaleList(Locale... locales) {
+        this.locales = locales;
+    }
+
+    public Locale get(int index) {
+        return locales[index];
+    }
+
+    public static void setDefault(LocaleList locales) {
+        // The JVM default locale is already set by the caller
+    }
+}
@@ -0,0 +1,30 @@
+package android.os;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * JVM stand-in for android.os.Looper: a bounded queue of tasks run by one thread.
+ * The queue is preallocated, so posting does not allocate, as with the
+ * pooled messages on a device.
+ */
+public final class Looper {
+    private static final int QUEUE_CAPACITY = 1024;
+
+    final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    volatile boolean quitting;
+
+    Looper() {
+    }
+
+    void loop() {
+        try {
+            while (!quitting || !queue.isEmpty()) {
+                Runnable task = queue.take();
+                task.run();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
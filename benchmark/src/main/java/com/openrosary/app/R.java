@@ -0,0 +1,53 @@
+package com.openrosary.app;
+
+/**
+ * Stand-in for the generated R class, limited to the resources the rosary
+ * core reads. Values are filled from app/src/main/res by StandInResources.
+ */
+public final class R {
+    private R() {
+    }
+
+    public static final class array {
+        public static final int glorious_mysteries_descriptions = 0x7f030001;
+        public static final int glorious_mysteries_titles = 0x7f030002;
+        public static final int joyful_mysteries_descriptions = 0x7f030003;
+        public static final int joyful_mysteries_titles = 0x7f030004;
+        public static final int luminous_mysteries_descriptions = 0x7f030005;
+        public static final int luminous_mysteries_titles = 0x7f030006;
+        public static final int sorrowful_mysteries_descriptions = 0x7f030007;
+        public static final int sorrowful_mysteries_titles = 0x7f030008;
+    }
+
+    public static final class string {
+        public static final int mystery_announcement_format = 0x7f0f0001;
+        public static final int mystery_label = 0x7f0f0002;
+        public static final int mystery_type_glorious = 0x7f0f0003;
+        public static final int mystery_type_joyful = 0x7f0f0004;
+        public static final int mystery_type_luminous = 0x7f0f0005;
+        public static final int mystery_type_sorrowful = 0x7f0f0006;
+        public static final int prayer = 0x7f0f0007;
+        public static final int prayer_apostles_creed = 0x7f0f0008;
+        public static final int prayer_fatima = 0x7f0f0009;
+        public static final int prayer_glory_be = 0x7f0f000a;
+        public static final int prayer_hail_holy_queen = 0x7f0f000b;
+        public static final int prayer_hail_mary = 0x7f0f000c;
+        public static final int prayer_hail_mary_charity = 0x7f0f000d;
+        public static final int prayer_hail_mary_faith = 0x7f0f000e;
+        public static final int prayer_hail_mary_hope = 0x7f0f000f;
+        public static final int prayer_our_father = 0x7f0f0010;
+        public static final int prayer_rosary = 0x7f0f0011;
+        public static final int prayer_sign_of_cross = 0x7f0f0012;
+        public static final int title_apostles_creed = 0x7f0f0013;
+        public static final int title_fatima_prayer = 0x7f0f0014;
+        public static final int title_glory_be = 0x7f0f0015;
+        public static final int title_hail_holy_queen = 0x7f0f0016;
+        public static final int title_hail_mary_charity = 0x7f0f0017;
+        public static final int title_hail_mary_decade = 0x7f0f0018;
+        public static final int title_hail_mary_faith = 0x7f0f0019;
+        public static final int title_hail_mary_hope = 0x7f0f001a;
+        public static final int title_our_father = 0x7f0f001b;
+        public static final int title_rosary_prayer = 0x7f0f001c;
+        public static final int title_sign_of_cross = 0x7f0f001d;
+    }
+}
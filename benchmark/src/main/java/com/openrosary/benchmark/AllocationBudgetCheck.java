@@ -0,0 +1,94 @@
+package com.openrosary.benchmark;
+
+import com.openrosary.app.PrayerTimingRecorder;
+import com.openrosary.app.RosaryPrayers;
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerHandle;
+import com.openrosary.core.RosaryState;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Checks that navigating the rosary allocates nothing once warmed up.
+ *
+ * Walks whole rosaries forward and back for every mystery set, doing what
+ * MainActivity does per swipe: classify the bead transition, move the cursor,
+ * note the step for prayer timing and resolve the prayer text, label and
+ * mystery title. Exits non-zero if the measured walk allocates, so a
+ * regression fails the build. The timing is saved on its own thread, as on
+ * a device, and is not counted.
+ */
+public final class AllocationBudgetCheck {
+    private static final int WARMUP_ROSARIES = 2000;
+    private static final int MEASURED_ROSARIES = 2000;
+
+    // Consumes results so the walk cannot be optimized away
+    private static volatile int sink;
+
+    private AllocationBudgetCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        StandInContext.initializeApp("en");
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        File timingFile = File.createTempFile("timing", ".bin");
+        boolean failed = false;
+        for (MysteryType mysteryType : MysteryType.values()) {
+            RosaryState state = new RosaryState(mysteryType, RosaryPrayers.getPrayerText());
+            PrayerTimingRecorder timing = new PrayerTimingRecorder(timingFile);
+            timing.start(mysteryType, 0, false, 0);
+            walk(state, timing, WARMUP_ROSARIES);
+
+            long before = threads.getThreadAllocatedBytes(threadId);
+            long transitions = walk(state, timing, MEASURED_ROSARIES);
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+            timing.finish(transitions, null);
+
+            // Less than one byte per transition on average leaves room for the
+            // measurement itself but catches any per-transition allocation
+            boolean withinBudget = allocated < transitions;
+            failed |= !withinBudget;
+            System.out.println(mysteryType + ": " + allocated + " bytes over " + transitions
+                    + " transitions" + (withinBudget ? "" : " - OVER BUDGET"));
+        }
+
+        timingFile.delete();
+        if (failed) {
+            System.err.println("Rosary navigation allocates in steady state.");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Pray whole rosaries forward to completion and back to the start.
+     * @return The number of transitions made
+     */
+    private static long walk(RosaryState state, PrayerTimingRecorder timing, int rosaries) {
+        long transitions = 0;
+        int consumed = 0;
+        for (int i = 0; i < rosaries; i++) {
+            state.seekTo(0);
+            while (!state.isComplete()) {
+                boolean decadeEnd = state.isAtDecadeEnd();
+                boolean beadTransition = decadeEnd || state.isBeadTypeTransition(true);
+                consumed += bind(state.advance()) + (beadTransition ? 1 : 0);
+                timing.onStep(state.position(), transitions++, decadeEnd);
+            }
+            while (state.position() > 0) {
+                boolean beadTransition = state.isBeadTypeTransition(false);
+                consumed += bind(state.goBack()) + (beadTransition ? 1 : 0);
+                timing.onStep(state.position(), transitions++, false);
+            }
+        }
+        sink = consumed;
+        return transitions;
+    }
+
+    private static int bind(PrayerHandle handle) {
+        return handle.getText().length() + handle.getLabel().length() + handle.getMysteryTitle().length();
+    }
+}
@@ -0,0 +1,72 @@
+package com.openrosary.benchmark;
+
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerStructure;
+import com.openrosary.core.RosaryState;
+
+/**
+ * Checks the bead transition table against the beads of a real rosary.
+ *
+ * Every position is classified in both directions and compared with the
+ * steps that move the fingers to a different kind of bead, listed by hand
+ * below. Exits non-zero on any mismatch, so a change to the prayer sequence
+ * that breaks the haptics fails the build.
+ */
+public final class BeadTransitionCheck {
+    // Positions whose next step lands on a different kind of bead
+    private static final int CREED_TO_OUR_FATHER = 2;
+    private static final int OUR_FATHER_TO_FAITH = 3;
+    private static final int CHARITY_TO_GLORY_BE = 6;
+    private static final int LAST_FATIMA_TO_HAIL_HOLY_QUEEN = 77;
+    private static final int OUR_FATHER_OFFSET = 1;      // Our Father to first Hail Mary, from the announcement
+    private static final int TENTH_HAIL_MARY_OFFSET = 11; // Tenth Hail Mary to Glory Be, from the announcement
+
+    private BeadTransitionCheck() {
+    }
+
+    public static void main(String[] args) {
+        boolean[] expected = expectedChanges();
+        // Classification only reads the sequence table, so no prayer text is needed
+        RosaryState state = new RosaryState(MysteryType.JOYFUL, null);
+
+        int mismatches = 0;
+        for (int position = 0; position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+            state.seekTo(position);
+            boolean forward = position < PrayerStructure.TOTAL_PRAYERS && expected[position];
+            boolean backward = position > 0 && expected[position - 1];
+            if (state.isBeadTypeTransition(true) != forward) {
+                System.err.println("Position " + position + " forward: expected " + forward);
+                mismatches++;
+            }
+            if (state.isBeadTypeTransition(false) != backward) {
+                System.err.println("Position " + position + " backward: expected " + backward);
+                mismatches++;
+            }
+        }
+
+        if (mismatches > 0) {
+            System.err.println(mismatches + " bead transitions are misclassified.");
+            System.exit(1);
+        }
+        System.out.println("Bead transitions match in both directions at all "
+                + (PrayerStructure.TOTAL_PRAYERS + 1) + " positions");
+    }
+
+    /**
+     * List the steps between different kinds of bead.
+     * @return Indexed by position, true if stepping to the next position changes bead
+     */
+    private static boolean[] expectedChanges() {
+        boolean[] changes = new boolean[PrayerStructure.TOTAL_PRAYERS + 1];
+        changes[CREED_TO_OUR_FATHER] = true;
+        changes[OUR_FATHER_TO_FAITH] = true;
+        changes[CHARITY_TO_GLORY_BE] = true;
+        for (int decade = 1; decade <= PrayerStructure.DECADE_COUNT; decade++) {
+            int announcement = PrayerStructure.getMysteryAnnouncementPosition(decade);
+            changes[announcement + OUR_FATHER_OFFSET] = true;
+            changes[announcement + TENTH_HAIL_MARY_OFFSET] = true;
+        }
+        changes[LAST_FATIMA_TO_HAIL_HOLY_QUEEN] = true;
+        return changes;
+    }
+}
@@ -0,0 +1,219 @@
+package com.openrosary.benchmark;
+
+import com.openrosary.core.HistoryStore;
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerStructure;
+import com.openrosary.core.SessionRecord;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks the prayer history's day and month indexes against a plain scan.
+ *
+ * Ten years of sessions are written, one to three a day with gaps of several
+ * days, and every month and many random day ranges are counted both through
+ * the indexes and by scanning all sessions. The store is then damaged the way
+ * a crash would (a torn record, indexes that missed the latest sessions) and
+ * reopened, and must answer the same. Exits non-zero on any mismatch, and
+ * prints how long the indexed queries take.
+ */
+public final class HistoryIndexCheck {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Jakarta");
+    private static final int YEARS = 10;
+    private static final int RANDOM_RANGES = 2000;
+    private static final int QUERY_ROUNDS = 100000;
+    private static final int LOST_INDEX_UPDATES = 40;
+
+    private HistoryIndexCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        File directory = Files.createTempDirectory("history-check").toFile();
+        try {
+            List<SessionRecord> written = new ArrayList<>();
+            Random random = new Random(42);
+            try (HistoryStore store = HistoryStore.open(directory, ZONE)) {
+                writeHistory(store, written, random);
+            }
+            // Indexes as they were some sessions ago, to put back as if their later updates were lost
+            File staleDays = new File(directory, "stale.days");
+            File staleMonths = new File(directory, "stale.months");
+            try (HistoryStore store = HistoryStore.open(directory, ZONE)) {
+                Files.copy(new File(directory, "history.days").toPath(), staleDays.toPath());
+                Files.copy(new File(directory, "history.months").toPath(), staleMonths.toPath());
+                writeSessions(store, written, random, LOST_INDEX_UPDATES);
+            }
+
+            int mismatches;
+            LocalDate first;
+            LocalDate last;
+            try (HistoryStore store = HistoryStore.open(directory, ZONE)) {
+                first = dayOf(written.get(0));
+                last = dayOf(written.get(written.size() - 1));
+                mismatches = compare(store, written, first, last, random);
+                timeQueries(store, last);
+            }
+
+            // A crash while appending: the last record is torn, and the indexes lost their latest updates
+            try (RandomAccessFile records = new RandomAccessFile(new File(directory, "history.bin"), "rw")) {
+                records.setLength(records.length() + 100);
+            }
+            Files.copy(staleDays.toPath(), new File(directory, "history.days").toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            Files.copy(staleMonths.toPath(), new File(directory, "history.months").toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            try (HistoryStore store = HistoryStore.open(directory, ZONE)) {
+                if (store.size() != written.size()) {
+                    System.err.println("Recovered " + store.size() + " records, expected " + written.size());
+                    mismatches++;
+                }
+                mismatches += compare(store, written, first, last, random);
+            }
+
+            if (mismatches > 0) {
+                System.err.println(mismatches + " history queries disagree with a full scan.");
+                System.exit(1);
+            }
+            System.out.println("History indexes match a full scan over " + written.size() + " sessions");
+        } finally {
+            File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            directory.delete();
+        }
+    }
+
+    private static void writeHistory(HistoryStore store, List<SessionRecord> written, Random random) throws IOException {
+        LocalDate day = LocalDate.of(2015, 1, 1);
+        LocalDate end = day.plusYears(YEARS);
+        while (day.isBefore(end)) {
+            writeDay(store, written, random, day, 1 + random.nextInt(3));
+            day = day.plusDays(1 + (random.nextInt(10) == 0 ? random.nextInt(7) : 0));
+        }
+    }
+
+    private static void writeSessions(HistoryStore store, List<SessionRecord> written, Random random, int sessions)
+            throws IOException {
+        LocalDate day = dayOf(written.get(written.size() - 1)).plusDays(1);
+        for (int i = 0; i < sessions; i += 2) {
+            writeDay(store, written, random, day, 2);
+            day = day.plusDays(1 + random.nextInt(3));
+        }
+    }
+
+    private static void writeDay(HistoryStore store, List<SessionRecord> written, Random random, LocalDate day,
+                                 int sessions) throws IOException {
+        long[] durations = new long[PrayerStructure.TOTAL_PRAYERS + 1];
+        MysteryType[] types = MysteryType.values();
+        for (int i = 0; i < sessions; i++) {
+            long start = day.atTime(6 + i * 6, random.nextInt(60)).atZone(ZONE).toInstant().toEpochMilli();
+            boolean completed = random.nextInt(5) != 0;
+            int reached = completed ? PrayerStructure.TOTAL_PRAYERS : 1 + random.nextInt(PrayerStructure.TOTAL_PRAYERS);
+            for (int position = 1; position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+                durations[position] = position <= reached ? 5000 + random.nextInt(30000) : 0;
+            }
+            SessionRecord record = new SessionRecord(start, start + 20 * 60 * 1000, types[random.nextInt(types.length)],
+                    "en", reached, completed, durations);
+            store.append(record);
+            written.add(record);
+        }
+    }
+
+    private static int compare(HistoryStore store, List<SessionRecord> written, LocalDate first, LocalDate last,
+                               Random random) throws IOException {
+        int mismatches = 0;
+        for (YearMonth month = YearMonth.from(first).minusMonths(1); !month.isAfter(YearMonth.from(last).plusMonths(1));
+                month = month.plusMonths(1)) {
+            int expected = 0;
+            int expectedCompleted = 0;
+            for (SessionRecord record : written) {
+                if (YearMonth.from(dayOf(record)).equals(month)) {
+                    expected++;
+                    expectedCompleted += record.isCompleted() ? 1 : 0;
+                }
+            }
+            if (store.countInMonth(month) != expected || store.countCompletedInMonth(month) != expectedCompleted) {
+                System.err.println(month + ": " + store.countInMonth(month) + "/" + store.countCompletedInMonth(month)
+                        + ", expected " + expected + "/" + expectedCompleted);
+                mismatches++;
+            }
+        }
+
+        int spanDays = (int) (last.toEpochDay() - first.toEpochDay());
+        for (int i = 0; i < RANDOM_RANGES; i++) {
+            LocalDate from = first.plusDays(random.nextInt(spanDays + 20) - 10);
+            LocalDate to = from.plusDays(random.nextInt(60));
+            List<SessionRecord> expected = new ArrayList<>();
+            int expectedCompleted = 0;
+            for (SessionRecord record : written) {
+                LocalDate day = dayOf(record);
+                if (!day.isBefore(from) && !day.isAfter(to)) {
+                    expected.add(record);
+                    expectedCompleted += record.isCompleted() ? 1 : 0;
+                }
+            }
+            List<SessionRecord> read = store.readDays(from, to);
+            boolean same = read.size() == expected.size()
+                    && store.countOnDays(from, to) == expected.size()
+                    && store.countCompletedOnDays(from, to) == expectedCompleted;
+            for (int j = 0; same && j < read.size(); j++) {
+                same = sameRecord(read.get(j), expected.get(j));
+            }
+            if (!same) {
+                System.err.println(from + " to " + to + ": read " + read.size() + ", counted " + store.countOnDays(from, to)
+                        + ", expected " + expected.size());
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    private static void timeQueries(HistoryStore store, LocalDate today) throws IOException {
+        YearMonth month = YearMonth.from(today);
+        LocalDate monthAgo = today.minusDays(29);
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERY_ROUNDS; i++) {
+            sink += store.countInMonth(month) + store.countOnDays(monthAgo, today);
+        }
+        long countNanos = (System.nanoTime() - start) / QUERY_ROUNDS;
+        start = System.nanoTime();
+        for (int i = 0; i < QUERY_ROUNDS / 100; i++) {
+            sink += store.readDays(monthAgo, today).size();
+        }
+        long readNanos = (System.nanoTime() - start) / (QUERY_ROUNDS / 100);
+        System.out.println("This month and last 30 days counted in " + countNanos + " ns; last 30 days read in "
+                + readNanos / 1000 + " us (" + (sink > 0 ? "ok" : "empty") + ")");
+    }
+
+    private static boolean sameRecord(SessionRecord a, SessionRecord b) {
+        if (a.getStartTimeMillis() != b.getStartTimeMillis() || a.getEndTimeMillis() != b.getEndTimeMillis()
+                || a.getMysteryType() != b.getMysteryType() || !a.getLanguageCode().equals(b.getLanguageCode())
+                || a.getPositionsPrayed() != b.getPositionsPrayed() || a.isCompleted() != b.isCompleted()) {
+            return false;
+        }
+        for (int position = 1; position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+            if (a.getDurationMillis(position) != b.getDurationMillis(position)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LocalDate dayOf(SessionRecord record) {
+        return java.time.Instant.ofEpochMilli(record.getEndTimeMillis()).atZone(ZONE).toLocalDate();
+    }
+}
@@ -0,0 +1,204 @@
+package com.openrosary.benchmark;
+
+import com.openrosary.core.HistoryStore;
+import com.openrosary.core.MysteryType;
+import com.openrosary.core.PrayerStats;
+import com.openrosary.core.PrayerStructure;
+import com.openrosary.core.SessionRecord;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Checks that prayer statistics kept up session by session, and saved and
+ * loaded along the way, agree with the same statistics rebuilt from the
+ * whole history and with streaks and counts worked out directly.
+ *
+ * Ten years of sessions are recorded with runs of daily prayer, missed days
+ * and abandoned rosaries. Exits non-zero on any mismatch, and prints what an
+ * update costs next to a full rebuild.
+ */
+public final class PrayerStatsCheck {
+    private static final ZoneId ZONE = ZoneId.of("Europe/Rome");
+    private static final int DAYS = 3650;
+    private static final int SAVE_EVERY = 97; // Sessions between save and reload of the running stats
+
+    private PrayerStatsCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        File directory = Files.createTempDirectory("stats-check").toFile();
+        File statsFile = new File(directory, "stats.bin");
+        try (HistoryStore store = HistoryStore.open(directory, ZONE)) {
+            Random random = new Random(7);
+            List<SessionRecord> written = new ArrayList<>();
+            PrayerStats stats = new PrayerStats();
+            long updateNanos = 0;
+            LocalDate day = LocalDate.of(2016, 2, 28);
+            for (int i = 0; i < DAYS; i++, day = day.plusDays(1)) {
+                // Runs of daily prayer broken by missed days
+                if (random.nextInt(12) == 0) {
+                    day = day.plusDays(1 + random.nextInt(4));
+                }
+                int sessions = 1 + random.nextInt(2);
+                for (int s = 0; s < sessions; s++) {
+                    SessionRecord record = session(random, day, s);
+                    store.append(record);
+                    written.add(record);
+                    long start = System.nanoTime();
+                    stats.add(record, ZONE);
+                    updateNanos += System.nanoTime() - start;
+                    if (written.size() % SAVE_EVERY == 0) {
+                        stats.save(statsFile);
+                        stats = PrayerStats.load(statsFile);
+                        if (stats == null) {
+                            System.err.println("Saved statistics could not be loaded.");
+                            System.exit(1);
+                        }
+                    }
+                }
+            }
+
+            int mismatches = 0;
+            long start = System.nanoTime();
+            PrayerStats rebuilt = PrayerStats.rebuild(store, ZONE);
+            long rebuildNanos = System.nanoTime() - start;
+            if (!rebuilt.equals(stats)) {
+                System.err.println("Running statistics differ from a rebuild.");
+                mismatches++;
+            }
+
+            PrayerStats partial = new PrayerStats();
+            for (int i = 0; i < written.size() / 2; i++) {
+                partial.add(written.get(i), ZONE);
+            }
+            partial.catchUp(store, ZONE);
+            if (!partial.equals(rebuilt)) {
+                System.err.println("Statistics caught up from the history differ from a rebuild.");
+                mismatches++;
+            }
+            mismatches += compareDirect(stats, written);
+
+            if (mismatches > 0) {
+                System.err.println(mismatches + " statistics checks failed.");
+                System.exit(1);
+            }
+            System.out.println("Statistics match over " + written.size() + " sessions: "
+                    + updateNanos / written.size() + " ns per update, rebuild " + rebuildNanos / 1000000 + " ms");
+        } finally {
+            File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            directory.delete();
+        }
+    }
+
+    private static SessionRecord session(Random random, LocalDate day, int index) {
+        long start = day.atTime(7 + index * 12, random.nextInt(60)).atZone(ZONE).toInstant().toEpochMilli();
+        boolean completed = random.nextInt(6) != 0;
+        boolean resumed = random.nextInt(10) == 0;
+        long[] durations = new long[PrayerStructure.TOTAL_PRAYERS + 1];
+        for (int position = resumed ? 30 : 1; position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+            durations[position] = 3000 + random.nextInt(20000);
+        }
+        MysteryType[] types = MysteryType.values();
+        return new SessionRecord(start, start + 25 * 60 * 1000, types[random.nextInt(types.length)], "in",
+                completed ? PrayerStructure.TOTAL_PRAYERS : 40, completed, durations);
+    }
+
+    private static int compareDirect(PrayerStats stats, List<SessionRecord> written) {
+        int mismatches = 0;
+        TreeSet<Long> days = new TreeSet<>();
+        int completed = 0;
+        int[] byMystery = new int[MysteryType.values().length];
+        int[] byWeekday = new int[7];
+        long[] decadeMillis = new long[PrayerStructure.DECADE_COUNT];
+        int[] decadesTimed = new int[PrayerStructure.DECADE_COUNT];
+        for (SessionRecord record : written) {
+            if (!record.isCompleted()) {
+                continue;
+            }
+            LocalDate day = Instant.ofEpochMilli(record.getEndTimeMillis()).atZone(ZONE).toLocalDate();
+            days.add(day.toEpochDay());
+            completed++;
+            byMystery[record.getMysteryType().ordinal()]++;
+            byWeekday[day.getDayOfWeek().getValue() - 1]++;
+            for (int position = 1; position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+                int decade = PrayerStructure.lookup(position, PrayerStructure.FIELD_DECADE);
+                if (decade > 0) {
+                    decadeMillis[decade - 1] += record.getDurationMillis(position);
+                }
+            }
+            for (int decade = 0; decade < PrayerStructure.DECADE_COUNT; decade++) {
+                decadesTimed[decade] += decadeTimed(record, decade + 1) ? 1 : 0;
+            }
+        }
+
+        int longest = 0;
+        int run = 0;
+        long previous = Long.MIN_VALUE;
+        for (long day : days) {
+            run = day == previous + 1 ? run + 1 : 1;
+            longest = Math.max(longest, run);
+            previous = day;
+        }
+        if (stats.getLongestStreak() != longest) {
+            System.err.println("Longest streak " + stats.getLongestStreak() + ", expected " + longest);
+            mismatches++;
+        }
+        LocalDate lastDay = LocalDate.ofEpochDay(days.last());
+        if (stats.getCurrentStreak(lastDay) != run || stats.getCurrentStreak(lastDay.plusDays(1)) != run
+                || stats.getCurrentStreak(lastDay.plusDays(2)) != 0) {
+            System.err.println("Current streak " + stats.getCurrentStreak(lastDay) + ", expected " + run);
+            mismatches++;
+        }
+        if (stats.getCompletedCount() != completed) {
+            System.err.println("Completed " + stats.getCompletedCount() + ", expected " + completed);
+            mismatches++;
+        }
+        for (MysteryType type : MysteryType.values()) {
+            if (stats.getCompletedCount(type) != byMystery[type.ordinal()]) {
+                System.err.println(type + ": " + stats.getCompletedCount(type) + ", expected " + byMystery[type.ordinal()]);
+                mismatches++;
+            }
+        }
+        for (DayOfWeek weekday : DayOfWeek.values()) {
+            if (stats.getCompletedCount(weekday) != byWeekday[weekday.getValue() - 1]) {
+                System.err.println(weekday + ": " + stats.getCompletedCount(weekday) + ", expected "
+                        + byWeekday[weekday.getValue() - 1]);
+                mismatches++;
+            }
+        }
+        for (int decade = 1; decade <= PrayerStructure.DECADE_COUNT; decade++) {
+            long expected = decadesTimed[decade - 1] == 0 ? 0 : decadeMillis[decade - 1] / decadesTimed[decade - 1];
+            if (stats.getAverageDecadeMillis(decade) != expected) {
+                System.err.println("Decade " + decade + ": " + stats.getAverageDecadeMillis(decade) + " ms, expected "
+                        + expected);
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    private static boolean decadeTimed(SessionRecord record, int decade) {
+        for (int position = 1; position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+            if (PrayerStructure.lookup(position, PrayerStructure.FIELD_DECADE) == decade
+                    && record.getDurationMillis(position) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+package com.openrosary.benchmark;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+
+import com.openrosary.app.RosaryPrayers;
+
+import java.io.File;
+
+/**
+ * Application context stand-in for running the rosary core on a plain JVM.
+ */
+public final class StandInContext extends Context {
+    // Set by the benchmark build to the app's res directory
+    private static final String RES_DIR_PROPERTY = "openrosary.resDir";
+
+    private final Resources resources;
+    private final String languageCode;
+
+    private StandInContext(Resources resources, String languageCode) {
+        this.resources = resources;
+        this.languageCode = languageCode;
+    }
+
+    /**
+     * Load the app resources for a language and initialize the prayer
+     * catalog with them, as MainActivity does on a device.
+     * @param languageCode The language code ("en" or "in")
+     * @return The initialized context
+     */
+    public static StandInContext initializeApp(String languageCode) throws Exception {
+        String resDir = System.getProperty(RES_DIR_PROPERTY, "app/src/main/res");
+        StandInContext context = new StandInContext(StandInResources.load(new File(resDir), languageCode), languageCode);
+        RosaryPrayers.initialize(context);
+        return context;
+    }
+
+    @Override
+    public Resources getResources() {
+        return resources;
+    }
+
+    @Override
+    public SharedPreferences getSharedPreferences(String name, int mode) {
+        return (key, defValue) -> "language".equals(key) ? languageCode : defValue;
+    }
+
+    @Override
+    public Context createConfigurationContext(Configuration overrideConfiguration) {
+        // Resources are already loaded for the requested language
+        return this;
+    }
+
+    @Override
+    public Context getApplicationContext() {
+        return this;
+    }
+}
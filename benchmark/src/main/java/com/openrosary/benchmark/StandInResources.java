@@ -0,0 +1,100 @@
+package com.openrosary.benchmark;
+
+import android.content.res.Resources;
+
+import com.openrosary.app.R;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+/**
+ * Builds stand-in Resources from the app's real values XML, so benchmarks
+ * run against the same prayer texts and format strings as the device.
+ */
+public final class StandInResources {
+    private StandInResources() {
+    }
+
+    /**
+     * Load the strings and string arrays named in the stand-in R class.
+     * @param resDir The app's res directory
+     * @param languageCode "en" for the default values, or a values-* qualifier such as "in"
+     * @return Resources serving those values
+     */
+    public static Resources load(File resDir, String languageCode) throws Exception {
+        Map<String, String> strings = new HashMap<>();
+        Map<String, String[]> arrays = new HashMap<>();
+        readValues(new File(resDir, "values"), strings, arrays);
+        if (!"en".equals(languageCode)) {
+            readValues(new File(resDir, "values-" + languageCode), strings, arrays);
+        }
+
+        Map<Integer, String> stringsById = new HashMap<>();
+        for (Field field : R.string.class.getFields()) {
+            String value = strings.get(field.getName());
+            if (value != null) {
+                stringsById.put(field.getInt(null), value);
+            }
+        }
+        Map<Integer, String[]> arraysById = new HashMap<>();
+        for (Field field : R.array.class.getFields()) {
+            String[] value = arrays.get(field.getName());
+            if (value != null) {
+                arraysById.put(field.getInt(null), value);
+            }
+        }
+        return new Resources(stringsById, arraysById);
+    }
+
+    private static void readValues(File dir, Map<String, String> strings, Map<String, String[]> arrays) throws Exception {
+        File[] files = dir.listFiles((d, name) -> name.endsWith(".xml"));
+        if (files == null) {
+            throw new IllegalArgumentException("Resource directory not found: " + dir);
+        }
+        DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        for (File file : files) {
+            Document document = builder.parse(file);
+
+            NodeList stringNodes = document.getElementsByTagName("string");
+            for (int i = 0; i < stringNodes.getLength(); i++) {
+                Element element = (Element) stringNodes.item(i);
+                strings.put(element.getAttribute("name"), unescape(element.getTextContent()));
+            }
+
+            NodeList arrayNodes = document.getElementsByTagName("string-array");
+            for (int i = 0; i < arrayNodes.getLength(); i++) {
+                Element element = (Element) arrayNodes.item(i);
+                NodeList items = element.getElementsByTagName("item");
+                String[] values = new String[items.getLength()];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = unescape(items.item(j).getTextContent());
+                }
+                arrays.put(element.getAttribute("name"), values);
+            }
+        }
+    }
+
+    // Undo the escapes aapt resolves at build time
+    private static String unescape(String raw) {
+        StringBuilder out = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == '\\' && i + 1 < raw.length()) {
+                char next = raw.charAt(++i);
+                out.append(next == 'n' ? '\n' : next == 't' ? '\t' : next);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
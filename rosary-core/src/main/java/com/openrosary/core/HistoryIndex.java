@@ -0,0 +1,222 @@
+package com.openrosary.core;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Dense index over the prayer history by a calendar key (a day or a month).
+ *
+ * Records are appended in time order, so the records for one key are a
+ * contiguous run. For every key from the first one seen to the latest there
+ * is an entry holding the number of records, and of completed records,
+ * before that key. Any range of keys is then answered with two array reads,
+ * however long the history: counts are differences of those running totals,
+ * and the records themselves are one contiguous slice of the history file.
+ *
+ * The file is a 16-byte header (magic, first key, records and completed
+ * records indexed) followed by 8-byte entries. Entries are only appended;
+ * an append to the history rewrites the header and adds entries for any
+ * keys it skipped. The whole index is kept in memory, 8 bytes per key.
+ */
+final class HistoryIndex implements Closeable {
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_SIZE = 8;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int magic;
+    private final FileChannel channel;
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+    private int firstKey;
+    private int size;              // Keys with an entry
+    private int[] recordsBefore = new int[INITIAL_CAPACITY];
+    private int[] completedBefore = new int[INITIAL_CAPACITY];
+    private int indexedRecords;    // Records covered by the index
+    private int indexedCompleted;
+
+    private HistoryIndex(int magic, FileChannel channel) {
+        this.magic = magic;
+        this.channel = channel;
+    }
+
+    /**
+     * Open an index file and load it into memory. A file that is missing or
+     * unreadable opens as an empty index, to be rebuilt from the history.
+     * @param file The index file
+     * @param magic Identifies the kind of key, so a day index is never read as a month index
+     * @return The index
+     * @throws IOException If the file cannot be opened
+     */
+    static HistoryIndex open(File file, int magic) throws IOException {
+        HistoryIndex index = new HistoryIndex(magic, new RandomAccessFile(file, "rw").getChannel());
+        if (!index.load()) {
+            index.reset();
+        }
+        return index;
+    }
+
+    private boolean load() throws IOException {
+        long length = channel.size();
+        if (length < HEADER_SIZE) {
+            return false;
+        }
+        header.clear();
+        readFully(channel, header, 0);
+        if (header.getInt(0) != magic) {
+            return false;
+        }
+        firstKey = header.getInt(4);
+        indexedRecords = header.getInt(8);
+        indexedCompleted = header.getInt(12);
+        int entries = (int) ((length - HEADER_SIZE) / ENTRY_SIZE);
+        ByteBuffer body = ByteBuffer.allocate(entries * ENTRY_SIZE);
+        readFully(channel, body, HEADER_SIZE);
+        body.flip();
+        ensureCapacity(entries);
+        for (int i = 0; i < entries; i++) {
+            recordsBefore[i] = body.getInt();
+            completedBefore[i] = body.getInt();
+        }
+        size = entries;
+        return indexedRecords >= 0 && indexedCompleted >= 0 && indexedCompleted <= indexedRecords
+                && (size == 0 ? indexedRecords == 0 : recordsBefore[size - 1] <= indexedRecords);
+    }
+
+    /**
+     * Forget everything, ready to index the history again from its first record.
+     * @throws IOException If the file cannot be truncated
+     */
+    void reset() throws IOException {
+        channel.truncate(0);
+        size = 0;
+        firstKey = 0;
+        indexedRecords = 0;
+        indexedCompleted = 0;
+        writeHeader();
+    }
+
+    /**
+     * Gets how many records of the history the index covers.
+     * @return The number of records indexed
+     */
+    int getIndexedRecords() {
+        return indexedRecords;
+    }
+
+    /**
+     * Index the next record of the history.
+     * A key before the latest one (the clock went back) is counted under the latest key,
+     * so the runs stay contiguous.
+     * @param key The record's day or month
+     * @param completed Whether the record is a completed rosary
+     * @throws IOException If the index cannot be written
+     */
+    void add(int key, boolean completed) throws IOException {
+        if (size == 0) {
+            firstKey = key;
+        }
+        int lastKey = firstKey + size - 1;
+        if (key > lastKey) {
+            int added = key - lastKey;
+            ensureCapacity(size + added);
+            ByteBuffer entries = ByteBuffer.allocate(added * ENTRY_SIZE);
+            for (int i = 0; i < added; i++) {
+                recordsBefore[size + i] = indexedRecords;
+                completedBefore[size + i] = indexedCompleted;
+                entries.putInt(indexedRecords);
+                entries.putInt(indexedCompleted);
+            }
+            entries.flip();
+            channel.write(entries, HEADER_SIZE + (long) size * ENTRY_SIZE);
+            size += added;
+        }
+        indexedRecords++;
+        if (completed) {
+            indexedCompleted++;
+        }
+        writeHeader();
+    }
+
+    /**
+     * Gets the index of the first record at or after a key.
+     * @param key A day or month
+     * @return A record index between 0 and the number of records indexed
+     */
+    int recordAt(int key) {
+        if (size == 0 || key <= firstKey) {
+            return 0;
+        }
+        if (key >= firstKey + size) {
+            return indexedRecords;
+        }
+        return recordsBefore[key - firstKey];
+    }
+
+    /**
+     * Gets the number of completed records before a key.
+     * @param key A day or month
+     * @return The completed records before it
+     */
+    int completedAt(int key) {
+        if (size == 0 || key <= firstKey) {
+            return 0;
+        }
+        if (key >= firstKey + size) {
+            return indexedCompleted;
+        }
+        return completedBefore[key - firstKey];
+    }
+
+    /**
+     * Make the index durable.
+     * @throws IOException If the file cannot be synced
+     */
+    void sync() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Fill a buffer from a file, starting at a position.
+     * @throws EOFException If the file ends first
+     */
+    static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("History file ended at " + (position + buffer.position()));
+            }
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        header.clear();
+        header.putInt(magic);
+        header.putInt(firstKey);
+        header.putInt(indexedRecords);
+        header.putInt(indexedCompleted);
+        header.flip();
+        channel.write(header, 0);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= recordsBefore.length) {
+            return;
+        }
+        int larger = Math.max(capacity, recordsBefore.length << 1);
+        int[] largerRecords = new int[larger];
+        int[] largerCompleted = new int[larger];
+        System.arraycopy(recordsBefore, 0, largerRecords, 0, size);
+        System.arraycopy(completedBefore, 0, largerCompleted, 0, size);
+        recordsBefore = largerRecords;
+        completedBefore = largerCompleted;
+    }
+}
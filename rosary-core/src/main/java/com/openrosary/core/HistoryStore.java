@@ -0,0 +1,348 @@
+package com.openrosary.core;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only history of rosary sessions, with day and month indexes.
+ *
+ * Sessions are stored as fixed 192-byte records in the order they end:
+ * start and end time, mystery type, language, furthest position, a
+ * completed flag, the time spent on each of the 80 prayers in tenths of a
+ * second, and a CRC32. Record n is at byte n * 192, so any record or run of
+ * records is a single positional read.
+ *
+ * A day index and a month index (see HistoryIndex) map calendar dates in the
+ * store's time zone to runs of records, so "rosaries this month" or "the last
+ * 30 days" never scan the history: counts come from the indexes alone, and
+ * reading the sessions of a range reads only those records. Years of daily
+ * sessions keep the indexes at a few tens of kilobytes.
+ *
+ * The history file is written before the indexes. On open, a torn last
+ * record is dropped and any records the indexes missed are indexed again,
+ * so a crash at any point loses at most the session being written.
+ * Blocking I/O: call from a background thread.
+ */
+public final class HistoryStore implements Closeable {
+    private static final String TAG = "HistoryStore";
+    static final String RECORDS_FILE_NAME = "history.bin";
+    static final String DAY_INDEX_FILE_NAME = "history.days";
+    static final String MONTH_INDEX_FILE_NAME = "history.months";
+
+    static final int RECORD_SIZE = 192;
+    private static final int MAGIC = 0x52534831;       // "RSH1"
+    private static final int DAY_INDEX_MAGIC = 0x52534431;   // "RSD1"
+    private static final int MONTH_INDEX_MAGIC = 0x52534D31; // "RSM1"
+    private static final int LANGUAGE_BYTES = 4;
+    private static final int FLAG_COMPLETED = 1;
+    private static final int DURATIONS_OFFSET = 28;
+    private static final int CRC_OFFSET = RECORD_SIZE - 4;
+    private static final int REINDEX_BATCH = 64; // Records read at a time when rebuilding an index
+
+    private final ZoneId zone;
+    private final FileChannel records;
+    private final HistoryIndex days;
+    private final HistoryIndex months;
+    private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+    private int recordCount;
+
+    private HistoryStore(ZoneId zone, FileChannel records, HistoryIndex days, HistoryIndex months) {
+        this.zone = zone;
+        this.records = records;
+        this.days = days;
+        this.months = months;
+    }
+
+    /**
+     * Open the history in a directory, creating it if needed, and repair
+     * whatever a crash left behind.
+     * @param directory Directory holding the history and its indexes
+     * @param zone Time zone that decides which day and month a session falls in
+     * @return The open store
+     * @throws IOException If the files cannot be opened
+     */
+    public static HistoryStore open(File directory, ZoneId zone) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Could not create " + directory);
+        }
+        FileChannel records = new RandomAccessFile(new File(directory, RECORDS_FILE_NAME), "rw").getChannel();
+        HistoryStore store = null;
+        try {
+            store = new HistoryStore(zone, records,
+                    HistoryIndex.open(new File(directory, DAY_INDEX_FILE_NAME), DAY_INDEX_MAGIC),
+                    HistoryIndex.open(new File(directory, MONTH_INDEX_FILE_NAME), MONTH_INDEX_MAGIC));
+            store.recover();
+            return store;
+        } catch (IOException e) {
+            if (store != null) {
+                store.close();
+            } else {
+                records.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Drop a torn last record and bring the indexes up to the history.
+     */
+    private void recover() throws IOException {
+        recordCount = (int) Math.min(Integer.MAX_VALUE, records.size() / RECORD_SIZE);
+        if (recordCount > 0 && readRecord(recordCount - 1) == null) {
+            RosaryLog.w(TAG, "Dropping a damaged last history record");
+            recordCount--;
+        }
+        records.truncate((long) recordCount * RECORD_SIZE);
+
+        for (HistoryIndex index : new HistoryIndex[] {days, months}) {
+            if (index.getIndexedRecords() > recordCount) {
+                // The index counts records that were never fully written
+                index.reset();
+            }
+        }
+        int from = Math.min(days.getIndexedRecords(), months.getIndexedRecords());
+        if (from < recordCount) {
+            RosaryLog.i(TAG, "Indexing history records " + from + " to " + (recordCount - 1));
+            reindex(from);
+        }
+    }
+
+    /**
+     * Index the records from one onwards, reading only their headers.
+     */
+    private void reindex(int from) throws IOException {
+        ByteBuffer batch = ByteBuffer.allocate(REINDEX_BATCH * RECORD_SIZE);
+        for (int start = from; start < recordCount; start += REINDEX_BATCH) {
+            int count = Math.min(REINDEX_BATCH, recordCount - start);
+            batch.clear();
+            batch.limit(count * RECORD_SIZE);
+            HistoryIndex.readFully(records, batch, (long) start * RECORD_SIZE);
+            for (int i = 0; i < count; i++) {
+                int base = i * RECORD_SIZE;
+                long endTimeMillis = batch.getLong(base + 12);
+                boolean completed = (batch.get(base + 22) & FLAG_COMPLETED) != 0;
+                index(start + i, endTimeMillis, completed);
+            }
+        }
+        days.sync();
+        months.sync();
+    }
+
+    /**
+     * Add a finished or abandoned session to the history.
+     * @param record The session
+     * @throws IOException If it cannot be written; the history is left as it was
+     */
+    public synchronized void append(SessionRecord record) throws IOException {
+        encode(record);
+        records.write(buffer, (long) recordCount * RECORD_SIZE);
+        records.force(false);
+        recordCount++;
+        int from = Math.min(days.getIndexedRecords(), months.getIndexedRecords());
+        if (from == recordCount - 1) {
+            index(recordCount - 1, record.getEndTimeMillis(), record.isCompleted());
+            days.sync();
+            months.sync();
+        } else {
+            // An earlier index update failed; catch up from the history itself
+            reindex(from);
+        }
+    }
+
+    private void index(int recordIndex, long endTimeMillis, boolean completed) throws IOException {
+        ZonedDateTime end = Instant.ofEpochMilli(endTimeMillis).atZone(zone);
+        // Each index skips records it already covers, so a half-finished update is simply completed
+        if (days.getIndexedRecords() == recordIndex) {
+            days.add((int) end.toLocalDate().toEpochDay(), completed);
+        }
+        if (months.getIndexedRecords() == recordIndex) {
+            months.add(monthKey(end.getYear(), end.getMonthValue()), completed);
+        }
+    }
+
+    /**
+     * Gets the number of sessions in the history.
+     * @return The record count
+     */
+    public synchronized int size() {
+        return recordCount;
+    }
+
+    /**
+     * Read one session.
+     * @param index The record index, 0 being the oldest
+     * @return The session, or null if the record is damaged
+     * @throws IOException If it cannot be read
+     */
+    public synchronized SessionRecord read(int index) throws IOException {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("History record " + index + " of " + recordCount);
+        }
+        return readRecord(index);
+    }
+
+    /**
+     * Count the sessions that ended on a range of days.
+     * @param first The first day
+     * @param last The last day, inclusive
+     * @return The number of sessions
+     */
+    public synchronized int countOnDays(LocalDate first, LocalDate last) {
+        return days.recordAt(dayKey(last) + 1) - days.recordAt(dayKey(first));
+    }
+
+    /**
+     * Count the rosaries completed on a range of days.
+     * @param first The first day
+     * @param last The last day, inclusive
+     * @return The number of completed sessions
+     */
+    public synchronized int countCompletedOnDays(LocalDate first, LocalDate last) {
+        return days.completedAt(dayKey(last) + 1) - days.completedAt(dayKey(first));
+    }
+
+    /**
+     * Count the sessions that ended in a month.
+     * @param month The month
+     * @return The number of sessions
+     */
+    public synchronized int countInMonth(YearMonth month) {
+        int key = monthKey(month.getYear(), month.getMonthValue());
+        return months.recordAt(key + 1) - months.recordAt(key);
+    }
+
+    /**
+     * Count the rosaries completed in a month.
+     * @param month The month
+     * @return The number of completed sessions
+     */
+    public synchronized int countCompletedInMonth(YearMonth month) {
+        int key = monthKey(month.getYear(), month.getMonthValue());
+        return months.completedAt(key + 1) - months.completedAt(key);
+    }
+
+    /**
+     * Read the sessions that ended on a range of days, oldest first.
+     * Only the records in the range are read.
+     * @param first The first day
+     * @param last The last day, inclusive
+     * @return The sessions; damaged records are left out
+     * @throws IOException If the history cannot be read
+     */
+    public synchronized List<SessionRecord> readDays(LocalDate first, LocalDate last) throws IOException {
+        return readRange(days.recordAt(dayKey(first)), days.recordAt(dayKey(last) + 1));
+    }
+
+    /**
+     * Read a run of sessions, oldest first.
+     * @param from The first record index
+     * @param to The record index after the last one
+     * @return The sessions; damaged records are left out
+     * @throws IOException If the history cannot be read
+     */
+    public synchronized List<SessionRecord> readRange(int from, int to) throws IOException {
+        from = Math.max(0, from);
+        to = Math.min(recordCount, to);
+        List<SessionRecord> sessions = new ArrayList<>(Math.max(0, to - from));
+        if (from >= to) {
+            return sessions;
+        }
+        ByteBuffer run = ByteBuffer.allocate((to - from) * RECORD_SIZE);
+        HistoryIndex.readFully(records, run, (long) from * RECORD_SIZE);
+        for (int i = 0; i < to - from; i++) {
+            SessionRecord session = decode(run, i * RECORD_SIZE);
+            if (session != null) {
+                sessions.add(session);
+            }
+        }
+        return sessions;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            records.close();
+        } finally {
+            try {
+                days.close();
+            } finally {
+                months.close();
+            }
+        }
+    }
+
+    private SessionRecord readRecord(int index) throws IOException {
+        buffer.clear();
+        HistoryIndex.readFully(records, buffer, (long) index * RECORD_SIZE);
+        return decode(buffer, 0);
+    }
+
+    private void encode(SessionRecord record) {
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.putLong(record.getStartTimeMillis());
+        buffer.putLong(record.getEndTimeMillis());
+        buffer.put((byte) record.getMysteryType().ordinal());
+        buffer.put((byte) record.getPositionsPrayed());
+        buffer.put((byte) (record.isCompleted() ? FLAG_COMPLETED : 0));
+        byte[] language = record.getLanguageCode().getBytes(StandardCharsets.US_ASCII);
+        int languageLength = Math.min(LANGUAGE_BYTES, language.length);
+        buffer.put((byte) languageLength);
+        for (int i = 0; i < LANGUAGE_BYTES; i++) {
+            buffer.put(i < languageLength ? language[i] : 0);
+        }
+        for (int i = 0; i < PrayerStructure.TOTAL_PRAYERS; i++) {
+            buffer.putChar(record.getDurationDeciseconds(i));
+        }
+        crc.reset();
+        crc.update(buffer.array(), 0, CRC_OFFSET);
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+    }
+
+    private SessionRecord decode(ByteBuffer source, int base) {
+        if (source.getInt(base) != MAGIC) {
+            return null;
+        }
+        crc.reset();
+        crc.update(source.array(), base, CRC_OFFSET);
+        if (source.getInt(base + CRC_OFFSET) != (int) crc.getValue()) {
+            return null;
+        }
+        MysteryType[] types = MysteryType.values();
+        int mysteryOrdinal = source.get(base + 20);
+        if (mysteryOrdinal < 0 || mysteryOrdinal >= types.length) {
+            return null;
+        }
+        int languageLength = Math.min(LANGUAGE_BYTES, source.get(base + 23));
+        String languageCode = new String(source.array(), base + 24, Math.max(0, languageLength), StandardCharsets.US_ASCII);
+        char[] durations = new char[PrayerStructure.TOTAL_PRAYERS];
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = source.getChar(base + DURATIONS_OFFSET + i * 2);
+        }
+        return new SessionRecord(source.getLong(base + 4), source.getLong(base + 12), types[mysteryOrdinal],
+                languageCode, source.get(base + 21), (source.get(base + 22) & FLAG_COMPLETED) != 0, durations);
+    }
+
+    private static int dayKey(LocalDate day) {
+        return (int) day.toEpochDay();
+    }
+
+    private static int monthKey(int year, int month) {
+        return year * 12 + month - 1;
+    }
+}
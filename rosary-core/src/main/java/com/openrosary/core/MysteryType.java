@@ -0,0 +1,43 @@
+package com.openrosary.core;
+
+/**
+ * The four sets of mysteries of the rosary.
+ * The key is the stable identifier passed in intents and saved state.
+ */
+public enum MysteryType {
+    JOYFUL("joyful"),
+    LUMINOUS("luminous"),
+    SORROWFUL("sorrowful"),
+    GLORIOUS("glorious");
+
+    private final String key;
+
+    MysteryType(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets the stable identifier for this mystery type.
+     * @return The key, e.g. "joyful"
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Parse a mystery type from its key.
+     * @param key The key, e.g. "joyful" (case-insensitive)
+     * @param fallback Returned when the key is null or unknown
+     * @return The matching mystery type, or the fallback
+     */
+    public static MysteryType fromKey(String key, MysteryType fallback) {
+        if (key != null) {
+            for (MysteryType type : values()) {
+                if (type.key.equalsIgnoreCase(key)) {
+                    return type;
+                }
+            }
+        }
+        return fallback;
+    }
+}
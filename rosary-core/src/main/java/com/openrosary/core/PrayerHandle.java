@@ -0,0 +1,57 @@
+package com.openrosary.core;
+
+/**
+ * A lightweight reference to one position in a rosary session.
+ *
+ * Handles are created once per RosaryState, so navigating never allocates.
+ * Text, label and mystery title are only resolved when the UI asks for them.
+ */
+public final class PrayerHandle {
+    private final RosaryState state;
+    private final int position;
+
+    PrayerHandle(RosaryState state, int position) {
+        this.state = state;
+        this.position = position;
+    }
+
+    /**
+     * Gets the position this handle points at.
+     * @return 0 before the first prayer, otherwise 1-80
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Gets the prayer type at this position.
+     * @return One of the PrayerStructure.PRAYER_* constants
+     */
+    public int getPrayerType() {
+        return PrayerStructure.getPrayerTypeForCount(position);
+    }
+
+    /**
+     * Resolve the prayer text for this position.
+     * @return The prayer text to display
+     */
+    public String getText() {
+        return state.getPrayerTextByTotalCount(position);
+    }
+
+    /**
+     * Resolve the prayer label for this position.
+     * @return The label describing the prayer
+     */
+    public String getLabel() {
+        return state.getPrayerLabelByTotalCount(position);
+    }
+
+    /**
+     * Resolve the mystery title for this position.
+     * @return The mystery title, or an empty string outside the decades
+     */
+    public String getMysteryTitle() {
+        return state.getMysteryTitleByTotalCount(position);
+    }
+}
@@ -0,0 +1,298 @@
+package com.openrosary.core;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Running totals over the prayer history: streaks of days with a completed
+ * rosary, completed rosaries per set of mysteries and per weekday, and the
+ * average time spent on each decade.
+ *
+ * Sessions are folded in one at a time, in history order, so the totals are
+ * kept up to date as rosaries are finished and never need the whole history
+ * read back. Only completed rosaries count; abandoned ones just advance the
+ * count of history records covered. The same fold run over the raw history
+ * gives the same totals, which is how rebuild checks a saved copy.
+ *
+ * Saved as one small checksummed file, replaced whole on each save.
+ * Not thread-safe; hand copies to other threads.
+ */
+public final class PrayerStats {
+    private static final String TAG = "PrayerStats";
+    private static final int MAGIC = 0x52535331; // "RSS1"
+    private static final int MYSTERY_TYPES = 4;
+    private static final int WEEKDAYS = 7;
+    private static final int FILE_SIZE = 4 + 4 + 4 + 8 + 4 + 4
+            + MYSTERY_TYPES * 4 + WEEKDAYS * 4 + PrayerStructure.DECADE_COUNT * (8 + 4) + 4;
+    private static final long NO_DAY = Long.MIN_VALUE;
+    private static final int REBUILD_BATCH = 256; // History records read at a time
+
+    private int recordsCounted;   // History records folded in, completed or not
+    private int completed;
+    private long lastDay = NO_DAY; // Epoch day of the latest completed rosary
+    private int currentStreak;    // Consecutive days with a completed rosary, ending on lastDay
+    private int longestStreak;
+    private final int[] byMystery = new int[MYSTERY_TYPES];
+    private final int[] byWeekday = new int[WEEKDAYS];          // Monday first
+    private final long[] decadeMillis = new long[PrayerStructure.DECADE_COUNT];
+    private final int[] decadesTimed = new int[PrayerStructure.DECADE_COUNT];
+
+    /**
+     * Fold in the next session of the history.
+     * Sessions must come in history order; a completion dated before the latest one
+     * (the clock went back) is counted but does not change the streaks.
+     * @param record The session
+     * @param zone The time zone that decides which day a session belongs to
+     */
+    public void add(SessionRecord record, ZoneId zone) {
+        recordsCounted++;
+        fold(record, zone);
+    }
+
+    private void fold(SessionRecord record, ZoneId zone) {
+        if (!record.isCompleted()) {
+            return;
+        }
+        LocalDate day = Instant.ofEpochMilli(record.getEndTimeMillis()).atZone(zone).toLocalDate();
+        completed++;
+        byMystery[record.getMysteryType().ordinal()]++;
+        byWeekday[day.getDayOfWeek().getValue() - 1]++;
+
+        long epochDay = day.toEpochDay();
+        if (lastDay == NO_DAY || epochDay > lastDay + 1) {
+            currentStreak = 1;
+            lastDay = epochDay;
+        } else if (epochDay == lastDay + 1) {
+            currentStreak++;
+            lastDay = epochDay;
+        }
+        longestStreak = Math.max(longestStreak, currentStreak);
+
+        for (int decade = 1; decade <= PrayerStructure.DECADE_COUNT; decade++) {
+            long millis = 0;
+            int first = PrayerStructure.FIRST_DECADE_POSITION + (decade - 1) * PrayerStructure.DECADE_SIZE;
+            for (int position = first; position < first + PrayerStructure.DECADE_SIZE; position++) {
+                millis += record.getDurationMillis(position);
+            }
+            // A resumed rosary has no timing for the prayers said before it was resumed
+            if (millis > 0) {
+                decadeMillis[decade - 1] += millis;
+                decadesTimed[decade - 1]++;
+            }
+        }
+    }
+
+    /**
+     * Gets how many history records have been folded in, so later ones can be added.
+     * @return The number of sessions counted, completed or not
+     */
+    public int getRecordsCounted() {
+        return recordsCounted;
+    }
+
+    public int getCompletedCount() {
+        return completed;
+    }
+
+    public int getCompletedCount(MysteryType mysteryType) {
+        return byMystery[mysteryType.ordinal()];
+    }
+
+    public int getCompletedCount(DayOfWeek weekday) {
+        return byWeekday[weekday.getValue() - 1];
+    }
+
+    /**
+     * Gets the current streak: consecutive days with a completed rosary, up to today
+     * or yesterday (today's rosary may not have been prayed yet).
+     * @param today The current date
+     * @return The number of days, or 0 if the streak is broken
+     */
+    public int getCurrentStreak(LocalDate today) {
+        if (lastDay == NO_DAY || lastDay < today.toEpochDay() - 1) {
+            return 0;
+        }
+        return currentStreak;
+    }
+
+    public int getLongestStreak() {
+        return longestStreak;
+    }
+
+    /**
+     * Gets the average time spent on one decade, from its mystery to its Fatima Prayer.
+     * @param decade The decade (1-5)
+     * @return The average in milliseconds, or 0 if no completed rosary timed it
+     */
+    public long getAverageDecadeMillis(int decade) {
+        int timed = decadesTimed[decade - 1];
+        return timed == 0 ? 0 : decadeMillis[decade - 1] / timed;
+    }
+
+    /**
+     * Make an independent copy, e.g. to publish to another thread.
+     * @return The copy
+     */
+    public PrayerStats copy() {
+        PrayerStats copy = new PrayerStats();
+        copy.recordsCounted = recordsCounted;
+        copy.completed = completed;
+        copy.lastDay = lastDay;
+        copy.currentStreak = currentStreak;
+        copy.longestStreak = longestStreak;
+        System.arraycopy(byMystery, 0, copy.byMystery, 0, MYSTERY_TYPES);
+        System.arraycopy(byWeekday, 0, copy.byWeekday, 0, WEEKDAYS);
+        System.arraycopy(decadeMillis, 0, copy.decadeMillis, 0, PrayerStructure.DECADE_COUNT);
+        System.arraycopy(decadesTimed, 0, copy.decadesTimed, 0, PrayerStructure.DECADE_COUNT);
+        return copy;
+    }
+
+    /**
+     * Compute the totals from scratch by reading the whole history.
+     * Slow on a long history; meant for a background consistency check.
+     * @param store The history
+     * @param zone The time zone that decides which day a session belongs to
+     * @return The totals
+     * @throws IOException If the history cannot be read
+     */
+    public static PrayerStats rebuild(HistoryStore store, ZoneId zone) throws IOException {
+        PrayerStats stats = new PrayerStats();
+        stats.catchUp(store, zone);
+        return stats;
+    }
+
+    /**
+     * Fold in the history records added since these totals were last updated.
+     * @param store The history
+     * @param zone The time zone that decides which day a session belongs to
+     * @throws IOException If the history cannot be read
+     */
+    public void catchUp(HistoryStore store, ZoneId zone) throws IOException {
+        int size = store.size();
+        while (recordsCounted < size) {
+            int to = Math.min(size, recordsCounted + REBUILD_BATCH);
+            List<SessionRecord> batch = store.readRange(recordsCounted, to);
+            for (SessionRecord record : batch) {
+                fold(record, zone);
+            }
+            recordsCounted = to; // Damaged records are left out but still covered
+        }
+    }
+
+    /**
+     * Load saved totals.
+     * @param file The stats file
+     * @return The totals, or null if the file is missing or damaged
+     */
+    public static PrayerStats load(File file) {
+        if (!file.exists()) {
+            return null;
+        }
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            if (in.length() != FILE_SIZE) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(FILE_SIZE);
+            HistoryIndex.readFully(in.getChannel(), buffer, 0);
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, FILE_SIZE - 4);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(FILE_SIZE - 4) != (int) crc.getValue()) {
+                return null;
+            }
+            buffer.position(4);
+            PrayerStats stats = new PrayerStats();
+            stats.recordsCounted = buffer.getInt();
+            stats.completed = buffer.getInt();
+            stats.lastDay = buffer.getLong();
+            stats.currentStreak = buffer.getInt();
+            stats.longestStreak = buffer.getInt();
+            for (int i = 0; i < MYSTERY_TYPES; i++) {
+                stats.byMystery[i] = buffer.getInt();
+            }
+            for (int i = 0; i < WEEKDAYS; i++) {
+                stats.byWeekday[i] = buffer.getInt();
+            }
+            for (int i = 0; i < PrayerStructure.DECADE_COUNT; i++) {
+                stats.decadeMillis[i] = buffer.getLong();
+                stats.decadesTimed[i] = buffer.getInt();
+            }
+            return stats;
+        } catch (IOException e) {
+            RosaryLog.e(TAG, "Error reading prayer stats: " + (e.getMessage() != null ? e.getMessage() : "unknown"));
+            return null;
+        }
+    }
+
+    /**
+     * Save the totals. The new file is synced before it replaces the old one,
+     * so a crash leaves one or the other whole.
+     * @param file The stats file
+     * @throws IOException If it cannot be written
+     */
+    public void save(File file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(FILE_SIZE);
+        buffer.putInt(MAGIC);
+        buffer.putInt(recordsCounted);
+        buffer.putInt(completed);
+        buffer.putLong(lastDay);
+        buffer.putInt(currentStreak);
+        buffer.putInt(longestStreak);
+        for (int count : byMystery) {
+            buffer.putInt(count);
+        }
+        for (int count : byWeekday) {
+            buffer.putInt(count);
+        }
+        for (int i = 0; i < PrayerStructure.DECADE_COUNT; i++) {
+            buffer.putLong(decadeMillis[i]);
+            buffer.putInt(decadesTimed[i]);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, FILE_SIZE - 4);
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        File saved = new File(file.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(saved)) {
+            out.getChannel().write(buffer);
+            out.getFD().sync();
+        }
+        if (!saved.renameTo(file)) {
+            throw new IOException("Could not replace " + file.getName());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PrayerStats)) {
+            return false;
+        }
+        PrayerStats that = (PrayerStats) other;
+        return recordsCounted == that.recordsCounted && completed == that.completed && lastDay == that.lastDay
+                && currentStreak == that.currentStreak && longestStreak == that.longestStreak
+                && Arrays.equals(byMystery, that.byMystery) && Arrays.equals(byWeekday, that.byWeekday)
+                && Arrays.equals(decadeMillis, that.decadeMillis) && Arrays.equals(decadesTimed, that.decadesTimed);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = recordsCounted;
+        result = 31 * result + completed;
+        result = 31 * result + Long.hashCode(lastDay);
+        result = 31 * result + longestStreak;
+        return 31 * result + Arrays.hashCode(byMystery);
+    }
+}
@@ -0,0 +1,258 @@
+package com.openrosary.core;
+
+/**
+ * Defines the structure of prayers in the rosary using arrays and indices
+ * for more efficient prayer management and fewer conditionals.
+ *
+ * The stage sequences below are compiled once into a flat, immutable table
+ * with one row per position (1-80). Every position fact is then a single
+ * indexed load through {@link #lookup(int, int)}.
+ */
+public class PrayerStructure {
+    // Prayer types - using constants for clarity
+    public static final int PRAYER_SIGN_OF_CROSS = 0;
+    public static final int PRAYER_APOSTLES_CREED = 1;
+    public static final int PRAYER_OUR_FATHER = 2;
+    public static final int PRAYER_HAIL_MARY = 3;
+    public static final int PRAYER_HAIL_MARY_FAITH = 4;
+    public static final int PRAYER_HAIL_MARY_HOPE = 5;
+    public static final int PRAYER_HAIL_MARY_CHARITY = 6;
+    public static final int PRAYER_GLORY_BE = 7;
+    public static final int PRAYER_FATIMA = 8;
+    public static final int PRAYER_MYSTERY_ANNOUNCEMENT = 9;
+    public static final int PRAYER_HAIL_HOLY_QUEEN = 10;
+    public static final int PRAYER_ROSARY_PRAYER = 11;
+
+    // Bead kinds - what the fingers are on while saying the prayer
+    public static final int BEAD_SMALL = 0;    // Hail Mary beads
+    public static final int BEAD_LARGE = 1;    // Our Father beads (Glory Be and Fatima Prayer are said there too)
+    public static final int BEAD_MEDAL = 2;    // Crucifix or centrepiece medal
+    public static final int BEAD_MYSTERY = 3;  // Mystery announcement marker
+
+    // Sequence geometry
+    public static final int TOTAL_PRAYERS = 80;
+    public static final int DECADE_COUNT = 5;
+    public static final int DECADE_SIZE = 14;          // Mystery, Our Father, 10 Hail Marys, Glory Be, Fatima Prayer
+    public static final int FIRST_DECADE_POSITION = 8; // Position of the first mystery announcement
+    public static final int HAIL_MARYS_PER_DECADE = 10;
+
+    // Columns of the compiled sequence table
+    public static final int FIELD_PRAYER_TYPE = 0;
+    public static final int FIELD_STAGE = 1;
+    public static final int FIELD_OFFSET_IN_STAGE = 2;
+    public static final int FIELD_DECADE = 3;        // 1-5, or 0 outside the decades
+    public static final int FIELD_MYSTERY_INDEX = 4; // 0-4, or -1 outside the decades
+    public static final int FIELD_HAIL_MARY = 5;     // 1-10 within a decade, or 0
+    public static final int FIELD_BEAD_KIND = 6;
+    public static final int FIELD_BEAD_CHANGE_NEXT = 7; // 1 if the next position is on a different kind of bead
+
+    // Rows are padded to 8 columns so a row offset is a shift rather than a multiply
+    private static final int ROW_SHIFT = 3;
+
+    // Stage prayer sequences - each array defines the prayer types in a stage
+    private static final int[] INTRO_PRAYERS = {
+        PRAYER_SIGN_OF_CROSS,
+        PRAYER_APOSTLES_CREED
+    };
+
+    private static final int[] FIRST_PRAYERS = {
+        PRAYER_OUR_FATHER,
+        PRAYER_HAIL_MARY_FAITH,
+        PRAYER_HAIL_MARY_HOPE,
+        PRAYER_HAIL_MARY_CHARITY,
+        PRAYER_GLORY_BE
+    };
+
+    private static final int[] DECADE_PRAYERS = {
+        PRAYER_MYSTERY_ANNOUNCEMENT,
+        PRAYER_OUR_FATHER,
+        PRAYER_HAIL_MARY, // Expanded to HAIL_MARYS_PER_DECADE rows when the table is compiled
+        PRAYER_GLORY_BE,
+        PRAYER_FATIMA
+    };
+
+    private static final int[] CONCLUSION_PRAYERS = {
+        PRAYER_HAIL_HOLY_QUEEN,
+        PRAYER_ROSARY_PRAYER,
+        PRAYER_SIGN_OF_CROSS
+    };
+
+    // Bead kind for each prayer type, indexed by prayer type constant
+    private static final int[] BEAD_KIND_BY_PRAYER = {
+        BEAD_MEDAL,   // Sign of the Cross
+        BEAD_MEDAL,   // Apostles' Creed
+        BEAD_LARGE,   // Our Father
+        BEAD_SMALL,   // Hail Mary
+        BEAD_SMALL,   // Hail Mary (Faith)
+        BEAD_SMALL,   // Hail Mary (Hope)
+        BEAD_SMALL,   // Hail Mary (Charity)
+        BEAD_LARGE,   // Glory Be
+        BEAD_LARGE,   // Fatima Prayer
+        BEAD_MYSTERY, // Mystery announcement
+        BEAD_MEDAL,   // Hail Holy Queen
+        BEAD_MEDAL    // Rosary Prayer
+    };
+
+    // The compiled sequence table: TOTAL_PRAYERS rows of packed position facts
+    private static final byte[] SEQUENCE = compileSequence();
+
+    /**
+     * Compile the stage sequences into the flat position table.
+     * Runs once when the class is loaded.
+     * @return The packed table, one row per position
+     */
+    private static byte[] compileSequence() {
+        byte[] table = new byte[TOTAL_PRAYERS << ROW_SHIFT];
+        int row = 0;
+
+        for (int i = 0; i < INTRO_PRAYERS.length; i++) {
+            row = putRow(table, row, INTRO_PRAYERS[i], RosaryState.STAGE_INTRO, i, 0, 0);
+        }
+        for (int i = 0; i < FIRST_PRAYERS.length; i++) {
+            row = putRow(table, row, FIRST_PRAYERS[i], RosaryState.STAGE_FIRST_PRAYERS, i, 0, 0);
+        }
+        for (int decade = 1; decade <= DECADE_COUNT; decade++) {
+            int offset = 0;
+            for (int prayerType : DECADE_PRAYERS) {
+                if (prayerType == PRAYER_HAIL_MARY) {
+                    for (int hailMary = 1; hailMary <= HAIL_MARYS_PER_DECADE; hailMary++) {
+                        row = putRow(table, row, prayerType, RosaryState.STAGE_DECADE, offset++, decade, hailMary);
+                    }
+                } else {
+                    row = putRow(table, row, prayerType, RosaryState.STAGE_DECADE, offset++, decade, 0);
+                }
+            }
+        }
+        for (int i = 0; i < CONCLUSION_PRAYERS.length; i++) {
+            row = putRow(table, row, CONCLUSION_PRAYERS[i], RosaryState.STAGE_CONCLUSION, i, 0, 0);
+        }
+
+        if (row != TOTAL_PRAYERS) {
+            throw new IllegalStateException("Prayer sequence has " + row + " positions, expected " + TOTAL_PRAYERS);
+        }
+
+        // Classify each step between neighbouring positions; the last position has no next
+        for (row = 0; row < TOTAL_PRAYERS - 1; row++) {
+            int kind = beadFeltFor(table[(row << ROW_SHIFT) + FIELD_BEAD_KIND]);
+            int nextKind = beadFeltFor(table[((row + 1) << ROW_SHIFT) + FIELD_BEAD_KIND]);
+            table[(row << ROW_SHIFT) + FIELD_BEAD_CHANGE_NEXT] = (byte) (kind != nextKind ? 1 : 0);
+        }
+        return table;
+    }
+
+    /**
+     * Get the bead the fingers rest on for a bead kind.
+     * The mystery is announced on the large bead that opens its decade,
+     * so moving onto or off the announcement is not a change of bead.
+     */
+    private static int beadFeltFor(int beadKind) {
+        return beadKind == BEAD_MYSTERY ? BEAD_LARGE : beadKind;
+    }
+
+    private static int putRow(byte[] table, int row, int prayerType, int stage, int offset, int decade, int hailMary) {
+        int base = row << ROW_SHIFT;
+        table[base + FIELD_PRAYER_TYPE] = (byte) prayerType;
+        table[base + FIELD_STAGE] = (byte) stage;
+        table[base + FIELD_OFFSET_IN_STAGE] = (byte) offset;
+        table[base + FIELD_DECADE] = (byte) decade;
+        table[base + FIELD_MYSTERY_INDEX] = (byte) (decade - 1);
+        table[base + FIELD_HAIL_MARY] = (byte) hailMary;
+        table[base + FIELD_BEAD_KIND] = (byte) BEAD_KIND_BY_PRAYER[prayerType];
+        return row + 1;
+    }
+
+    /**
+     * Look up one fact about a position in the rosary.
+     * Positions outside 1-80 are clamped to the nearest valid position.
+     * @param position The position in the overall rosary (1-80)
+     * @param field One of the FIELD_* constants
+     * @return The stored value for that position and field
+     */
+    public static int lookup(int position, int field) {
+        int row = Math.max(1, Math.min(TOTAL_PRAYERS, position)) - 1;
+        return SEQUENCE[(row << ROW_SHIFT) + field];
+    }
+
+    /**
+     * Get the prayer type for a given total count position in the rosary
+     * @param totalCount The position in the overall rosary (1-80)
+     * @return The prayer type constant
+     */
+    public static int getPrayerTypeForCount(int totalCount) {
+        return lookup(totalCount, FIELD_PRAYER_TYPE);
+    }
+
+    /**
+     * Calculate which decade (1-5) a total count falls in
+     * @param totalCount The overall position in rosary (1-80)
+     * @return Decade number (1-5) or 0 if not in a decade
+     */
+    public static int getDecadeForCount(int totalCount) {
+        return lookup(totalCount, FIELD_DECADE);
+    }
+
+    /**
+     * Calculate the Hail Mary number (1-10) within a decade
+     * @param totalCount The overall position in rosary
+     * @return Hail Mary number (1-10) or 0 if not a Hail Mary
+     */
+    public static int getHailMaryNumber(int totalCount) {
+        return lookup(totalCount, FIELD_HAIL_MARY);
+    }
+
+    /**
+     * Calculate the mystery index (0-4) for a given total count
+     * @param totalCount The overall position in rosary
+     * @return Mystery index (0-4) or -1 if not in a decade
+     */
+    public static int getMysteryIndex(int totalCount) {
+        return lookup(totalCount, FIELD_MYSTERY_INDEX);
+    }
+
+    /**
+     * Get the rosary stage a position belongs to
+     * @param totalCount The overall position in rosary (1-80)
+     * @return One of the RosaryState.STAGE_* constants (never STAGE_COMPLETE)
+     */
+    public static int getStageForCount(int totalCount) {
+        return lookup(totalCount, FIELD_STAGE);
+    }
+
+    /**
+     * Get the 0-based offset of a position within its stage (within its decade for decades)
+     * @param totalCount The overall position in rosary (1-80)
+     * @return Offset within the stage
+     */
+    public static int getOffsetInStage(int totalCount) {
+        return lookup(totalCount, FIELD_OFFSET_IN_STAGE);
+    }
+
+    /**
+     * Get the kind of bead a position is prayed on
+     * @param totalCount The overall position in rosary (1-80)
+     * @return One of the BEAD_* constants
+     */
+    public static int getBeadKind(int totalCount) {
+        return lookup(totalCount, FIELD_BEAD_KIND);
+    }
+
+    /**
+     * Check whether stepping from a position to the next one moves the fingers
+     * onto a different kind of bead. Going back from the next position crosses
+     * the same step, so it is a change of bead too.
+     * @param totalCount The overall position in rosary (1-80)
+     * @return True if the next position is on a different kind of bead; false for the last position
+     */
+    public static boolean isBeadChangeAfter(int totalCount) {
+        return lookup(totalCount, FIELD_BEAD_CHANGE_NEXT) != 0;
+    }
+
+    /**
+     * Get the position of the mystery announcement that opens a decade
+     * @param decade The decade number (1-5)
+     * @return The total count of that announcement
+     */
+    public static int getMysteryAnnouncementPosition(int decade) {
+        return FIRST_DECADE_POSITION + (decade - 1) * DECADE_SIZE;
+    }
+}
@@ -0,0 +1,53 @@
+package com.openrosary.core;
+
+/**
+ * Source of the localized prayer texts, labels and mystery strings.
+ * The app backs this with its resources; the core only reads it.
+ * Arrays handed out are shared and must not be modified.
+ */
+public interface PrayerText {
+
+    /**
+     * Gets the text of a prayer.
+     * @param prayerType One of the PrayerStructure.PRAYER_* constants
+     * @return The prayer text (empty for the mystery announcement)
+     */
+    String getPrayer(int prayerType);
+
+    /**
+     * Gets the prayer label shown for a position.
+     * @param position The position in the rosary (1-80)
+     * @return The label, e.g. "Hail Mary (3/10)"
+     */
+    String getLabel(int position);
+
+    /**
+     * Gets the titles of a mystery set.
+     * @param mysteryType The mystery set
+     * @return The titles, one per decade
+     */
+    String[] getMysteryTitles(MysteryType mysteryType);
+
+    /**
+     * Gets the descriptions of a mystery set.
+     * @param mysteryType The mystery set
+     * @return The descriptions, one per decade
+     */
+    String[] getMysteryDescriptions(MysteryType mysteryType);
+
+    /**
+     * Gets the localized name of a mystery set (e.g. "Joyful").
+     * @param mysteryType The mystery set
+     * @return The localized name
+     */
+    String getMysteryTypeName(MysteryType mysteryType);
+
+    /**
+     * Build the announcement for a mystery, e.g. "Joyful Mystery #1: The Annunciation".
+     * @param decade The decade number (1-5)
+     * @param mysteryTypeName The localized name of the mystery set
+     * @param mysteryTitle The title of the mystery
+     * @return The announcement text
+     */
+    String formatMysteryAnnouncement(int decade, String mysteryTypeName, String mysteryTitle);
+}
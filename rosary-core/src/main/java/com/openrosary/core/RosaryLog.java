@@ -0,0 +1,139 @@
+package com.openrosary.core;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Project logging facade.
+ *
+ * Messages are dropped until the host installs a sink, so the core runs
+ * quietly on a plain JVM. Each message is only built once its priority is
+ * known to be logged: pass a format with primitive arguments, or a
+ * {@link Message} for anything more involved. A disabled call therefore
+ * costs a priority check and allocates nothing.
+ *
+ * The minimum priority can be raised or lowered per tag, e.g. to debug the
+ * update checker without the navigation noise.
+ */
+public final class RosaryLog {
+    // Priorities, matching android.util.Log
+    public static final int VERBOSE = 2;
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+
+    /**
+     * Receives the log messages that pass the priority check.
+     */
+    public interface Sink {
+        void log(int priority, String tag, String message);
+    }
+
+    /**
+     * Builds a log message on demand.
+     */
+    public interface Message {
+        String get();
+    }
+
+    private static final Sink NONE = (priority, tag, message) -> { };
+
+    private static volatile Sink sink = NONE;
+    private static volatile int minPriority = Integer.MAX_VALUE;
+    // Replaced as a whole on change, never modified, so reads need no lock
+    private static volatile Map<String, Integer> tagMinPriorities = new HashMap<>();
+
+    private RosaryLog() {
+    }
+
+    /**
+     * Install the sink that receives log messages.
+     * @param newSink The sink, or null to drop messages
+     * @param newMinPriority Messages below this priority are dropped unless their tag says otherwise
+     */
+    public static void setSink(Sink newSink, int newMinPriority) {
+        sink = newSink != null ? newSink : NONE;
+        minPriority = newSink != null ? newMinPriority : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Override the minimum priority for one tag.
+     * @param tag The log tag
+     * @param tagMinPriority The minimum priority for that tag
+     */
+    public static synchronized void setTagLevel(String tag, int tagMinPriority) {
+        Map<String, Integer> levels = new HashMap<>(tagMinPriorities);
+        levels.put(tag, tagMinPriority);
+        tagMinPriorities = levels;
+    }
+
+    /**
+     * Check whether messages of a priority reach the sink for any tag
+     * without its own level.
+     * @param priority One of the priority constants
+     * @return True if such messages are logged
+     */
+    public static boolean isLoggable(int priority) {
+        return priority >= minPriority;
+    }
+
+    /**
+     * Check whether messages of a priority reach the sink for a tag.
+     * @param tag The log tag
+     * @param priority One of the priority constants
+     * @return True if such messages are logged
+     */
+    public static boolean isLoggable(String tag, int priority) {
+        if (sink == NONE) {
+            return false;
+        }
+        Integer tagMinPriority = tagMinPriorities.get(tag);
+        return priority >= (tagMinPriority != null ? tagMinPriority : minPriority);
+    }
+
+    public static void d(String tag, String message) {
+        if (isLoggable(tag, DEBUG)) sink.log(DEBUG, tag, message);
+    }
+
+    public static void d(String tag, Message message) {
+        if (isLoggable(tag, DEBUG)) sink.log(DEBUG, tag, message.get());
+    }
+
+    public static void d(String tag, String format, int arg) {
+        if (isLoggable(tag, DEBUG)) sink.log(DEBUG, tag, format(format, arg));
+    }
+
+    public static void d(String tag, String format, int arg1, int arg2) {
+        if (isLoggable(tag, DEBUG)) sink.log(DEBUG, tag, format(format, arg1, arg2));
+    }
+
+    public static void d(String tag, String format, int arg1, int arg2, int arg3) {
+        if (isLoggable(tag, DEBUG)) sink.log(DEBUG, tag, format(format, arg1, arg2, arg3));
+    }
+
+    public static void d(String tag, String format, Object arg) {
+        if (isLoggable(tag, DEBUG)) sink.log(DEBUG, tag, format(format, arg));
+    }
+
+    public static void d(String tag, String format, Object arg1, Object arg2) {
+        if (isLoggable(tag, DEBUG)) sink.log(DEBUG, tag, format(format, arg1, arg2));
+    }
+
+    public static void i(String tag, String message) {
+        if (isLoggable(tag, INFO)) sink.log(INFO, tag, message);
+    }
+
+    public static void w(String tag, String message) {
+        if (isLoggable(tag, WARN)) sink.log(WARN, tag, message);
+    }
+
+    public static void e(String tag, String message) {
+        if (isLoggable(tag, ERROR)) sink.log(ERROR, tag, message);
+    }
+
+    private static String format(String format, Object... args) {
+        return String.format(Locale.ROOT, format, args);
+    }
+}
@@ -0,0 +1,350 @@
+package com.openrosary.core;
+
+/**
+ * Manages the state of a rosary praying session
+ */
+public class RosaryState {
+    // Rosary stages
+    public static final int STAGE_INTRO = 0;          // Initial prayers (Sign of Cross, Apostles' Creed)
+    public static final int STAGE_FIRST_PRAYERS = 1;  // Our Father, 3 Hail Marys, Glory Be
+    public static final int STAGE_DECADE = 2;         // Decades (Mystery, Our Father, 10 Hail Marys, Glory Be, Fatima Prayer)
+    public static final int STAGE_CONCLUSION = 3;     // Concluding prayers (Hail Holy Queen, Rosary Prayer)
+    public static final int STAGE_COMPLETE = 4;       // Rosary is complete
+
+    private static final String TAG = "RosaryState"; // Added for logging
+
+    // Current state - a single cursor into the compiled prayer sequence.
+    // 0 means nothing has been prayed yet, 1-80 is the prayer on screen,
+    // and reaching 80 (the final Sign of the Cross) completes the rosary.
+    private int position;
+    private final MysteryType mysteryType; // Type of mysteries being prayed
+    private boolean isGoingBack = false; // Track whether we're going forward or backward (for UI sync)
+    private final PrayerHandle[] handles; // One handle per position, built once so navigation never allocates
+    private final PrayerText text; // Localized prayer texts, supplied by the host
+
+    // Constructor
+    public RosaryState(MysteryType mysteryType, PrayerText text) {
+        this.mysteryType = mysteryType;
+        this.text = text;
+        this.position = 0;
+        this.handles = new PrayerHandle[PrayerStructure.TOTAL_PRAYERS + 1];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = new PrayerHandle(this, i);
+        }
+    }
+    
+    /**
+     * Move the cursor straight to a position in the rosary.
+     * Stage, decade and mystery index are all derived from the position, so this
+     * costs the same wherever the target is and builds no prayer text.
+     * @param position The target position (0-80); out-of-range values are clamped
+     */
+    public void seekTo(int position) {
+        this.position = Math.max(0, Math.min(PrayerStructure.TOTAL_PRAYERS, position));
+    }
+
+    /**
+     * Gets the cursor position in the rosary.
+     * @return 0 before the first prayer, otherwise the current prayer (1-80)
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Gets the handle for the prayer under the cursor.
+     * @return The current prayer handle
+     */
+    public PrayerHandle current() {
+        return handles[position];
+    }
+
+    /**
+     * Advance the rosary to the next prayer based on volume or swipe actions.
+     * No prayer text is built here; resolve it from the handle when binding.
+     * @return Handle for the prayer now under the cursor
+     */
+    public PrayerHandle advance() {
+        isGoingBack = false; // Reset direction flag
+        
+        // Stay on the final prayer once the rosary is complete
+        if (!isComplete()) {
+            position++;
+        }
+        return handles[position];
+    }
+
+    /**
+     * Go back one prayer step.
+     * No prayer text is built here; resolve it from the handle when binding.
+     * @return Handle for the prayer now under the cursor
+     */
+    public PrayerHandle goBack() {
+        isGoingBack = true; // Set flag for UI update
+        RosaryLog.d(TAG, "Going back. Current stage: %d, prayerCount: %d, decadeCount: %d",
+                getStage(), getPrayerCount(), getDecadeCount());
+        
+        // Can't go back from before the very beginning
+        if (position > 0) {
+            position--;
+        }
+        
+        RosaryLog.d(TAG, "After going back. New state: stage=%d, prayerCount=%d, decadeCount=%d",
+                getStage(), getPrayerCount(), getDecadeCount());
+        
+        // Reset the flag after we're done
+        isGoingBack = false;
+        
+        return handles[position];
+    }
+
+    /**
+     * Get the current mystery title being prayed
+     * @return The title of the current mystery
+     */
+    public String getCurrentMysteryTitle() {
+        if (getStage() == STAGE_DECADE) {
+            return getMysteryTitleByTotalCount(position);
+        }
+        return "";
+    }
+
+    /**
+     * Get the current mystery description being prayed
+     * @return The description of the current mystery
+     */
+    public String getCurrentMysteryDescription() {
+        int mysteryIndex = PrayerStructure.getMysteryIndex(position);
+        if (getStage() == STAGE_DECADE && mysteryIndex >= 0) {
+            String[] descriptions = text.getMysteryDescriptions(mysteryType);
+            if (descriptions != null && mysteryIndex < descriptions.length) {
+                return descriptions[mysteryIndex];
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Get the prayer text for the current state
+     * @return The prayer text to display
+     */
+    public String getCurrentPrayerText() {
+        return getPrayerTextByTotalCount(position);
+    }
+
+    /**
+     * Get the localized string for the mystery type (e.g., "Joyful", "Sorrowful").
+     * @param mysteryType The mystery type
+     * @return The localized mystery type string
+     */
+    private String getLocalizedMysteryType(MysteryType mysteryType) {
+        return text.getMysteryTypeName(mysteryType);
+    }
+
+    /**
+     * Get a short description of the current prayer step using resources.
+     * @return A label describing the current prayer
+     */
+    public String getCurrentPrayerLabel() {
+        return getPrayerLabelByTotalCount(position);
+    }
+
+    /**
+     * Gets the total count for display
+     * @return Count representing progress through the rosary
+     */
+    public int getTotalCount() {
+        return position;
+    }
+    
+    /**
+     * Gets the maximum count for a complete rosary
+     * @return Maximum count for the rosary
+     */
+    public int getMaxCount() {
+        // Opening prayers (Sign of Cross + Apostles' Creed) = 2
+        // First prayers (Our Father + 3 Hail Marys + Glory Be) = 5
+        // 5 decades × 14 prayers each = 70
+        // (Each decade: Mystery Announcement + Our Father + 10 Hail Marys + Glory Be + Fatima Prayer)
+        // Conclusion (Hail Holy Queen + Rosary Prayer + Sign of Cross) = 3
+        return PrayerStructure.TOTAL_PRAYERS; // Fixed total count
+    }
+
+    /**
+     * Check if the next step moves between different bead types
+     * Small beads = Hail Marys
+     * Large beads = Our Father, Glory Be, etc.
+     * Medal = the crucifix and centrepiece prayers
+     * The mystery announcement is said on the large bead of its decade.
+     * 
+     * @param isAdvancing Whether we're moving forward or backward
+     * @return True if the transition is between different bead types
+     */
+    public boolean isBeadTypeTransition(boolean isAdvancing) {
+        // Both directions cross the step between the same two positions
+        int from = isAdvancing ? position : position - 1;
+        return from > 0 && PrayerStructure.isBeadChangeAfter(from);
+    }
+
+    /**
+     * Check if the prayer under the cursor closes a decade (its Fatima Prayer)
+     * @return True on the last prayer of any decade
+     */
+    public boolean isAtDecadeEnd() {
+        return getStage() == STAGE_DECADE
+                && PrayerStructure.getOffsetInStage(position) == PrayerStructure.DECADE_SIZE - 1;
+    }
+
+    /**
+     * Gets the current stage of the rosary.
+     * @return The current stage constant (e.g., STAGE_INTRO, STAGE_DECADE).
+     */
+    public int getStage() {
+        if (position == 0) return STAGE_INTRO;
+        if (position == PrayerStructure.TOTAL_PRAYERS) return STAGE_COMPLETE;
+        return PrayerStructure.getStageForCount(position);
+    }
+
+    /**
+     * Gets the current prayer count within the current stage.
+     * This counts the prayers already said in the stage, so it is one past the
+     * offset of the prayer on screen.
+     * @return The current prayer count.
+     */
+    public int getPrayerCount() {
+        if (position == 0) return 0;
+        return PrayerStructure.getOffsetInStage(position) + 1;
+    }
+
+    /**
+     * Checks if the rosary is complete.
+     * @return True if the rosary is complete, false otherwise.
+     */
+    public boolean isComplete() {
+        return position == PrayerStructure.TOTAL_PRAYERS;
+    }
+
+    /**
+     * Gets the type of mysteries being prayed.
+     * @return The mystery type
+     */
+    public MysteryType getMysteryType() {
+        return mysteryType;
+    }
+
+    /**
+     * Gets the current mystery index: 0 before the decades, 0-4 within them
+     * and 5 once all five decades are done.
+     * @return The mystery index
+     */
+    public int getMysteryIndex() {
+        int mysteryIndex = PrayerStructure.getMysteryIndex(position);
+        if (mysteryIndex >= 0) return mysteryIndex;
+        return position < PrayerStructure.FIRST_DECADE_POSITION ? 0 : PrayerStructure.DECADE_COUNT;
+    }
+
+    // Getters for UI updates
+    public int getDecadeCount() { return getMysteryIndex() + 1; }
+    public boolean isGoingBack() { return isGoingBack; } // Getter for direction
+
+    /**
+     * Calculate what the previous prayer text would be without actually changing state
+     * This is used to directly get the previous prayer before changing state
+     * @return The prayer text for the previous prayer
+     */
+    public String getPreviousPrayerText() {
+        // Log current state before calculating previous prayer
+        RosaryLog.d(TAG, "Getting previous prayer from stage: %d, prayerCount: %d, decadeCount: %d",
+                getStage(), getPrayerCount(), getDecadeCount());
+        
+        String prevPrayerText = getPrayerTextByTotalCount(position - 1);
+        
+        // Log the prayer text we're returning
+        RosaryLog.d(TAG, "Previous prayer text (first 20 chars): %.20s", prevPrayerText);
+        
+        return prevPrayerText;
+    }
+
+    /**
+     * Get prayer text based on the total count using the optimized PrayerStructure
+     * @param totalCount The total count of prayers in the rosary (1-80)
+     * @return The prayer text for the specified count
+     */
+    public String getPrayerTextByTotalCount(int totalCount) {
+        // Validate count range
+        if (totalCount < 1) totalCount = 1;
+        if (totalCount > 80) totalCount = 80;
+        
+        // Get the prayer type for this count
+        int prayerType = PrayerStructure.getPrayerTypeForCount(totalCount);
+        
+        // Get the mystery index if this is a mystery announcement
+        int mysteryIndex = PrayerStructure.getMysteryIndex(totalCount);
+        
+        // Get the decade number if applicable
+        int decadeNumber = PrayerStructure.getDecadeForCount(totalCount);
+        
+        if (prayerType != PrayerStructure.PRAYER_MYSTERY_ANNOUNCEMENT) {
+            return text.getPrayer(prayerType);
+        }
+
+        String[] titles = text.getMysteryTitles(mysteryType);
+        String[] descriptions = text.getMysteryDescriptions(mysteryType);
+        if (titles != null && mysteryIndex >= 0 && mysteryIndex < titles.length) {
+            // Show the mystery description if available
+            if (descriptions != null && mysteryIndex < descriptions.length) {
+                return descriptions[mysteryIndex];
+            }
+            // Otherwise announce the mystery
+            return text.formatMysteryAnnouncement(decadeNumber,
+                                                  getLocalizedMysteryType(mysteryType),
+                                                  titles[mysteryIndex]);
+        }
+        return "Mystery " + decadeNumber;
+    }
+    
+    /**
+     * Get prayer label based on the total count from the precomputed label table
+     * @param totalCount The total count of prayers in the rosary (1-80)
+     * @return The prayer label for the specified count
+     */
+    public String getPrayerLabelByTotalCount(int totalCount) {
+        return text.getLabel(totalCount);
+    }
+    
+    /**
+     * Get mystery title by total count using the compiled prayer sequence
+     * @param totalCount The total count
+     * @return The mystery title appropriate for the count, or empty string if not at a mystery
+     */
+    public String getMysteryTitleByTotalCount(int totalCount) {
+        int mysteryIndex = PrayerStructure.getMysteryIndex(totalCount);
+        if (mysteryIndex < 0) {
+            // Not in a mystery decade
+            return ""; // Empty string
+        }
+        return getMysteryTitle(mysteryIndex);
+    }
+    
+    /**
+     * Helper method to get a specific mystery title
+     * @param index The index of the mystery (0-4)
+     * @return The mystery title
+     */
+    private String getMysteryTitle(int index) {
+        String[] titles = text.getMysteryTitles(mysteryType);
+        if (titles != null && index >= 0 && index < titles.length) {
+            return titles[index];
+        }
+        return "Mystery " + (index + 1);
+    }
+    
+    /**
+     * Calculate the mystery announcement count from decade number
+     * @param decadeNum The decade number (1-5)
+     * @return The total count for this mystery announcement
+     */
+    public static int getMysteryAnnouncementCount(int decadeNum) {
+        return PrayerStructure.getMysteryAnnouncementPosition(decadeNum);
+    }
+} // End of RosaryState class
\ No newline at end of file
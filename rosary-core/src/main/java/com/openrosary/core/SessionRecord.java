@@ -0,0 +1,108 @@
+package com.openrosary.core;
+
+/**
+ * One rosary session as kept in the prayer history: when it ran, what was
+ * prayed, how far it got and how long each prayer took.
+ *
+ * Durations are kept per position in tenths of a second, saturating at about
+ * 109 minutes, which is how they are stored. Immutable.
+ */
+public final class SessionRecord {
+    private static final int MAX_DECISECONDS = 0xFFFF;
+
+    private final long startTimeMillis;
+    private final long endTimeMillis;
+    private final MysteryType mysteryType;
+    private final String languageCode;
+    private final int positionsPrayed;
+    private final boolean completed;
+    private final char[] durations; // Tenths of a second per position, index 0 is position 1
+
+    /**
+     * @param startTimeMillis Wall-clock start of the session
+     * @param endTimeMillis Wall-clock end of the session
+     * @param mysteryType The mysteries prayed
+     * @param languageCode The prayer language, e.g. "en"; at most 4 ASCII characters are kept
+     * @param positionsPrayed The furthest position reached (0-80)
+     * @param completed True if the rosary was prayed to the end, false if it was abandoned
+     * @param durationMillis Time spent on each position, indexed by position (0 is unused), or null
+     */
+    public SessionRecord(long startTimeMillis, long endTimeMillis, MysteryType mysteryType, String languageCode,
+                         int positionsPrayed, boolean completed, long[] durationMillis) {
+        this.startTimeMillis = startTimeMillis;
+        this.endTimeMillis = Math.max(startTimeMillis, endTimeMillis);
+        this.mysteryType = mysteryType;
+        this.languageCode = languageCode != null ? languageCode : "";
+        this.positionsPrayed = Math.max(0, Math.min(PrayerStructure.TOTAL_PRAYERS, positionsPrayed));
+        this.completed = completed;
+        this.durations = new char[PrayerStructure.TOTAL_PRAYERS];
+        if (durationMillis != null) {
+            for (int position = 1; position < durationMillis.length && position <= PrayerStructure.TOTAL_PRAYERS; position++) {
+                long deciseconds = Math.max(0, durationMillis[position]) / 100;
+                durations[position - 1] = (char) Math.min(MAX_DECISECONDS, deciseconds);
+            }
+        }
+    }
+
+    /**
+     * Build a record from stored durations.
+     */
+    SessionRecord(long startTimeMillis, long endTimeMillis, MysteryType mysteryType, String languageCode,
+                  int positionsPrayed, boolean completed, char[] durations) {
+        this.startTimeMillis = startTimeMillis;
+        this.endTimeMillis = endTimeMillis;
+        this.mysteryType = mysteryType;
+        this.languageCode = languageCode;
+        this.positionsPrayed = positionsPrayed;
+        this.completed = completed;
+        this.durations = durations;
+    }
+
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    public long getEndTimeMillis() {
+        return endTimeMillis;
+    }
+
+    public MysteryType getMysteryType() {
+        return mysteryType;
+    }
+
+    public String getLanguageCode() {
+        return languageCode;
+    }
+
+    /**
+     * Gets the furthest position reached.
+     * @return 0-80
+     */
+    public int getPositionsPrayed() {
+        return positionsPrayed;
+    }
+
+    /**
+     * Whether the rosary was prayed to the end.
+     * @return True if completed, false if abandoned
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Gets the time spent on one prayer.
+     * @param position The position (1-80)
+     * @return The duration in milliseconds, to the nearest tenth of a second below
+     */
+    public long getDurationMillis(int position) {
+        if (position < 1 || position > PrayerStructure.TOTAL_PRAYERS) {
+            return 0;
+        }
+        return durations[position - 1] * 100L;
+    }
+
+    char getDurationDeciseconds(int index) {
+        return durations[index];
+    }
+}